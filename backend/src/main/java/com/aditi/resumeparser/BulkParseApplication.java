@@ -0,0 +1,85 @@
+package com.aditi.resumeparser;
+
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import com.aditi.resumeparser.service.BulkParseService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Headless entry point for offline bulk parsing. Boots the same application context as
+ * {@link BackendApplication} but without the embedded Tomcat server, parses a directory tree and exits.
+ *
+ * <pre>
+ * mvn spring-boot:run -Dstart-class=com.aditi.resumeparser.BulkParseApplication \
+ *     -Dspring-boot.run.arguments="--input=/data/resumes --threads=8 --output=results.jsonl"
+ * </pre>
+ *
+ * Without {@code --output} the parsed resumes are saved to the configured database in batches of
+ * {@code --batch-size} (default 500). {@code --threads} defaults to the number of CPUs. With
+ * {@code --output} nothing is written to the database, but the context still connects to it and
+ * runs the Flyway migrations on startup.
+ */
+public class BulkParseApplication {
+
+    public static void main(String[] args) throws Exception {
+        DefaultApplicationArguments arguments = new DefaultApplicationArguments(args);
+        Path inputDir = Path.of(requiredOption(arguments, "input"));
+        if (!Files.isDirectory(inputDir)) {
+            throw new IllegalArgumentException("--input must be a directory: " + inputDir);
+        }
+        String output = option(arguments, "output", null);
+        BulkParseService.Options options = new BulkParseService.Options(
+                inputDir,
+                Integer.parseInt(option(arguments, "threads", String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                output != null ? Path.of(output) : null,
+                Integer.parseInt(option(arguments, "batch-size", "500")));
+
+        try (ConfigurableApplicationContext context = application().run(args)) {
+            BulkParseService.Report report = context.getBean(BulkParseService.class).run(options);
+            System.out.printf("Parsed %d files (%d failed) in %.1f s: %.1f files/sec, peak RSS %s%n",
+                    report.filesParsed(), report.filesFailed(), report.elapsedMillis() / 1000.0,
+                    report.filesPerSecond(),
+                    report.peakRssKb() >= 0 ? (report.peakRssKb() / 1024) + " MB" : "n/a");
+        }
+    }
+
+    /**
+     * The server's context without the web server. The dashboards' column store and the ingestion
+     * queue worker only make sense in the long-running server; a worker here would claim live
+     * {@code /ingest} jobs from the shared database during a backfill. Both are switched off in a
+     * property source that outranks
+     * application.properties and the command line; {@code SpringApplicationBuilder.properties(...)}
+     * would only set defaults, which any config file overrides.
+     */
+    static SpringApplicationBuilder application() {
+        ApplicationContextInitializer<ConfigurableApplicationContext> overrides = context -> context.getEnvironment()
+                .getPropertySources()
+                .addFirst(new MapPropertySource("bulkParseOverrides",
+                        Map.of("analytics.enabled", "false", "ingestion.worker.enabled", "false")));
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(overrides);
+    }
+
+    private static String requiredOption(DefaultApplicationArguments arguments, String name) {
+        String value = option(arguments, name, null);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required option --" + name);
+        }
+        return value;
+    }
+
+    private static String option(DefaultApplicationArguments arguments, String name, String defaultValue) {
+        List<String> values = arguments.getOptionValues(name);
+        return (values == null || values.isEmpty()) ? defaultValue : values.get(0);
+    }
+}
@@ -1,14 +1,21 @@
 package com.aditi.resumeparser.config;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.tika.Tika;
+import org.apache.tika.detect.DefaultDetector;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.microsoft.ooxml.OOXMLParser;
+import org.apache.tika.parser.pdf.PDFParser;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.aditi.resumeparser.repository.ResumeRepository;
 
 @Configuration
+@EnableScheduling // Drives the ingestion queue poller (IngestionWorker)
 @RequiredArgsConstructor
 public class ApplicationConfig {
     private final ResumeRepository repository;
@@ -39,4 +46,14 @@ public class ApplicationConfig {
             }
         };
     }
+
+    /**
+     * Tika restricted to the formats the upload endpoint accepts (PDF and DOCX).
+     * Registering only these parsers avoids service-loading and initializing the whole
+     * standard parser package at startup.
+     */
+    @Bean
+    public Tika tika() {
+        return new Tika(new DefaultDetector(), new AutoDetectParser(new PDFParser(), new OOXMLParser()));
+    }
 }
\ No newline at end of file
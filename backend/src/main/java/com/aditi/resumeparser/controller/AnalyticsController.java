@@ -0,0 +1,71 @@
+package com.aditi.resumeparser.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.aditi.resumeparser.service.ResumeAnalyticsService;
+import com.aditi.resumeparser.service.ResumeColumnStore;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dashboard endpoints. Everything here is answered from the in-memory column store,
+ * never from JPA queries.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    // Co-occurrence is a limit x limit matrix, so keep it small.
+    private static final int MAX_CO_OCCURRENCE_SKILLS = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private final ResumeAnalyticsService analyticsService;
+
+    @GetMapping("/skills/top")
+    public ResponseEntity<Map<String, Object>> topSkills(@RequestParam(value = "limit", defaultValue = "20") int limit) {
+        Map<String, Object> response = successResponse();
+        response.put("skills", analyticsService.topSkills(clamp(limit, MAX_LIMIT)));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/skills/co-occurrence")
+    public ResponseEntity<Map<String, Object>> skillCoOccurrence(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+        ResumeColumnStore.CoOccurrence coOccurrence = analyticsService.skillCoOccurrence(clamp(limit, MAX_CO_OCCURRENCE_SKILLS));
+        Map<String, Object> response = successResponse();
+        response.put("skills", coOccurrence.skills());
+        response.put("counts", coOccurrence.counts());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/certifications/issuers")
+    public ResponseEntity<Map<String, Object>> topCertificationIssuers(@RequestParam(value = "limit", defaultValue = "20") int limit) {
+        Map<String, Object> response = successResponse();
+        response.put("issuers", analyticsService.topCertificationIssuers(clamp(limit, MAX_LIMIT)));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Experience entries bucketed by whole years of duration; the last bucket is "maxYears or more".
+     */
+    @GetMapping("/experience/durations")
+    public ResponseEntity<Map<String, Object>> experienceDurations(@RequestParam(value = "maxYears", defaultValue = "10") int maxYears) {
+        Map<String, Object> response = successResponse();
+        response.put("yearsHistogram", analyticsService.experienceYearsHistogram(clamp(maxYears, 50)));
+        return ResponseEntity.ok(response);
+    }
+
+    private Map<String, Object> successResponse() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("resumesWithSkills", analyticsService.resumesWithSkills());
+        return response;
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(1, Math.min(value, max));
+    }
+}
@@ -2,16 +2,28 @@ package com.aditi.resumeparser.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.tika.exception.TikaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.aditi.resumeparser.model.IngestionJob;
 import com.aditi.resumeparser.model.Resume;
+import com.aditi.resumeparser.service.IngestionQueueService;
+import com.aditi.resumeparser.service.NLPService;
 import com.aditi.resumeparser.service.ResumeService;
+import com.aditi.resumeparser.service.ResumeStreamingService;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/resume")
@@ -19,7 +31,34 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ResumeUploadController {
 
+    private static final Logger log = LoggerFactory.getLogger(ResumeUploadController.class);
+
     private final ResumeService resumeService;
+    private final NLPService nlpService;
+    private final ResumeStreamingService resumeStreamingService;
+    private final IngestionQueueService ingestionQueueService;
+
+    // Upper bound for one streamed upload, queueing included.
+    private static final long STREAM_TIMEOUT_MS = 5 * 60 * 1000L;
+
+    private static final String SERVER_BUSY_MESSAGE = "The server is busy processing other resumes. Please try again shortly.";
+
+    /**
+     * Readiness probe. NLP models load in the background after startup; until they are loaded this
+     * and the upload endpoints answer 503. {@code /ingest} still accepts files, since the queue
+     * worker waits for the models before processing them.
+     */
+    @GetMapping("/health")
+    public ResponseEntity<Map<String, Object>> health() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("nlpModelsLoaded", nlpService.isReady());
+        if (nlpService.isReady()) {
+            response.put("status", "UP");
+            return ResponseEntity.ok(response);
+        }
+        response.put("status", nlpService.hasFailed() ? "DOWN" : "STARTING");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
 
     @PostMapping("/upload")
     public ResponseEntity<Map<String, Object>> uploadResume(@RequestParam("file") MultipartFile file) {
@@ -35,6 +74,11 @@ public class ResumeUploadController {
             return buildErrorResponse("Only PDF and DOCX files are allowed.");
         }
 
+        // 3. Parsing needs the NLP models, which load in the background after startup
+        if (!nlpService.isReady()) {
+            return buildNotReadyResponse();
+        }
+
         // --- PROCESSING ---
         try {
             // Process and save the resume using the service layer
@@ -60,11 +104,162 @@ public class ResumeUploadController {
         }
     }
 
+    /**
+     * Durable variant of {@link #uploadResume}: stores the file in the ingestion queue and returns
+     * 202 with a job id straight away. A queue worker on any node extracts, parses and saves it,
+     * retrying with backoff on failure.
+     */
+    @PostMapping("/ingest")
+    public ResponseEntity<Map<String, Object>> ingestResume(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            return buildErrorResponse("Please select a file to upload.");
+        }
+        if (!isValidFileType(file.getContentType())) {
+            return buildErrorResponse("Only PDF and DOCX files are allowed.");
+        }
+
+        try {
+            IngestionJob job = ingestionQueueService.enqueue(file.getOriginalFilename(), file.getContentType(), file.getBytes());
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "queued");
+            response.put("message", "Resume received and queued for parsing.");
+            response.put("jobId", job.getId());
+            return ResponseEntity.accepted().body(response);
+        } catch (IOException e) {
+            return buildErrorResponse("Error reading the uploaded file: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/ingest/{jobId}")
+    public ResponseEntity<Map<String, Object>> getIngestionJob(@PathVariable("jobId") Long jobId) {
+        return ingestionQueueService.findById(jobId)
+                .map(job -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("jobId", job.getId());
+                    response.put("status", job.getStatus());
+                    response.put("stage", job.getStage());
+                    response.put("attempts", job.getAttempts());
+                    response.put("nextAttemptAt", job.getNextAttemptAt());
+                    response.put("lastError", job.getLastError());
+                    response.put("resumeId", job.getResumeId());
+                    return ResponseEntity.ok(response);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Non-blocking variant of {@link #uploadResume}: streams Server-Sent Events as the upload moves
+     * through the pipeline ("received", "extracted", "parsed", "saved"), or a single "error" event.
+     * The servlet thread is released as soon as the file bytes are read. Requests that are rejected
+     * up front get a plain status instead of a stream: 400 for an invalid file, 503 while the models
+     * load or the server is at capacity.
+     */
+    @PostMapping(value = "/upload/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter uploadResumeStreaming(@RequestParam("file") MultipartFile file) {
+        // --- VALIDATION --- (same rules as the blocking endpoint)
+        if (file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Please select a file to upload.");
+        }
+        if (!isValidFileType(file.getContentType())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Only PDF and DOCX files are allowed.");
+        }
+        if (!nlpService.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, notReadyMessage());
+        }
+
+        // Reserve room before the bytes are read, so a burst cannot pin more heap than the budget.
+        if (!resumeStreamingService.tryReserve(file.getSize())) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, SERVER_BUSY_MESSAGE);
+        }
+        byte[] content;
+        try {
+            content = file.getBytes();
+        } catch (IOException e) {
+            resumeStreamingService.release(file.getSize());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Error reading the uploaded file: " + e.getMessage(), e);
+        }
+
+        // --- PROCESSING --- (runs on the streaming service's executors)
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        try {
+            resumeStreamingService.process(content, file.getOriginalFilename(), (stage, data) -> sendEvent(emitter, stage, data))
+                    .whenComplete((savedResume, error) -> {
+                        if (error != null) {
+                            streamError(emitter, describeStreamingError(error));
+                        } else {
+                            emitter.complete();
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            // The emitter was never returned, so its buffered "received" event is never sent.
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, SERVER_BUSY_MESSAGE);
+        }
+        return emitter;
+    }
+
+    /**
+     * Rejections of the streaming endpoint get the same {@code status}/{@code message} body as the
+     * blocking endpoint's errors.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<Map<String, Object>> handleRejectedRequest(ResponseStatusException e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", "error");
+        errorResponse.put("message", e.getReason());
+        return ResponseEntity.status(e.getStatusCode()).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    private String describeStreamingError(Throwable error) {
+        Throwable cause = (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+        if (cause instanceof TikaException) {
+            return "Error extracting text from the file. It might be corrupted or in an unsupported format: " + cause.getMessage();
+        }
+        if (cause instanceof IOException) {
+            return "Error reading the uploaded file: " + cause.getMessage();
+        }
+        if (cause instanceof RejectedExecutionException) {
+            return SERVER_BUSY_MESSAGE;
+        }
+        log.error("Streaming upload failed", cause);
+        return "An unexpected error occurred: " + cause.getMessage();
+    }
+
+    private SseEmitter streamError(SseEmitter emitter, String message) {
+        Map<String, Object> errorEvent = new HashMap<>();
+        errorEvent.put("status", "error");
+        errorEvent.put("message", message);
+        sendEvent(emitter, "error", errorEvent);
+        emitter.complete();
+        return emitter;
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Map<String, Object> data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter already completed; processing carries on regardless.
+        }
+    }
+
     private boolean isValidFileType(String contentType) {
         return "application/pdf".equals(contentType) ||
                "application/vnd.openxmlformats-officedocument.wordprocessingml.document".equals(contentType);
     }
 
+    private String notReadyMessage() {
+        return nlpService.hasFailed()
+                ? "Resume parsing is unavailable: the NLP models failed to load."
+                : "The server is still starting up. Please try again shortly.";
+    }
+
+    // 503 with the same body shape as buildErrorResponse, so clients can retry once /health reports UP
+    private ResponseEntity<Map<String, Object>> buildNotReadyResponse() {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", "error");
+        errorResponse.put("message", notReadyMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     // Helper method to create a standardized error response
     private ResponseEntity<Map<String, Object>> buildErrorResponse(String message) {
         Map<String, Object> errorResponse = new HashMap<>();
@@ -0,0 +1,84 @@
+package com.aditi.resumeparser.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+/**
+ * A received resume file waiting in (or done with) the durable ingestion queue.
+ * State transitions are native updates in {@code IngestionJobRepository} that read the time from
+ * the database clock, so the timing columns are never written from the entity.
+ */
+@Entity
+@Table(name = "ingestion_job")
+@Data
+@NoArgsConstructor
+public class IngestionJob {
+
+    public enum Status { PENDING, PROCESSING, DONE, DEAD }
+
+    // The furthest stage the current (or, once it ends, the last) attempt has reached; persisted as it
+    // is reached, so a running job shows its progress.
+    public enum Stage { RECEIVED, EXTRACTED, PARSED, SAVED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "original_file_name", nullable = false)
+    private String originalFileName;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "content")
+    @ToString.Exclude
+    private byte[] content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status = Status.PENDING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false)
+    private Stage stage = Stage.RECEIVED;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", insertable = false, updatable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    @Column(name = "locked_at", insertable = false, updatable = false)
+    private OffsetDateTime lockedAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "resume_id")
+    private Long resumeId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,98 @@
+package com.aditi.resumeparser.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.aditi.resumeparser.model.IngestionJob;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Queue state transitions. Every time comparison and timestamp uses the database clock
+ * ({@code now()}), so nodes with skewed clocks or different time zones agree on due times and
+ * lease expiry. Updates that record a worker's outcome only match rows that worker still holds
+ * ({@code status = 'PROCESSING' AND locked_by = :workerId}). All methods must run inside a transaction.
+ */
+@Repository
+public interface IngestionJobRepository extends JpaRepository<IngestionJob, Long> {
+
+    /**
+     * Moves jobs whose lease expired on their last allowed attempt to DEAD. Their worker most
+     * likely crashed on the document itself, so claiming them again would crash another node.
+     */
+    @Modifying
+    @Query(value = "UPDATE ingestion_job SET status = 'DEAD', locked_by = NULL, locked_at = NULL, updated_at = now(), "
+            + "last_error = 'Worker lease expired on the last attempt; the worker presumably crashed on this file' "
+            + "WHERE status = 'PROCESSING' AND locked_at < now() - CAST(:leaseSeconds AS DOUBLE PRECISION) * INTERVAL '1' SECOND "
+            + "AND attempts >= :maxAttempts", nativeQuery = true)
+    int deadLetterExpiredLeases(@Param("leaseSeconds") double leaseSeconds, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Locks up to {@code limit} jobs that are due, plus jobs whose worker lease expired (the node
+     * died mid-processing). SKIP LOCKED lets several nodes poll concurrently without blocking on,
+     * or double-claiming, each other's rows.
+     */
+    @Query(value = "SELECT id FROM ingestion_job "
+            + "WHERE (status = 'PENDING' AND next_attempt_at <= now()) "
+            + "   OR (status = 'PROCESSING' AND locked_at < now() - CAST(:leaseSeconds AS DOUBLE PRECISION) * INTERVAL '1' SECOND) "
+            + "ORDER BY next_attempt_at "
+            + "LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockClaimableJobIds(@Param("leaseSeconds") double leaseSeconds, @Param("limit") int limit);
+
+    // A new attempt starts from the stored file again, so its stage starts over too.
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE ingestion_job SET status = 'PROCESSING', stage = 'RECEIVED', attempts = attempts + 1, "
+            + "locked_by = :workerId, locked_at = now(), updated_at = now() "
+            + "WHERE id IN (:ids)", nativeQuery = true)
+    int markClaimed(@Param("ids") Collection<Long> ids, @Param("workerId") String workerId);
+
+    /**
+     * Locks a job if {@code workerId} still holds it, so its outcome can be recorded atomically.
+     */
+    @Query(value = "SELECT id FROM ingestion_job "
+            + "WHERE id = :id AND status = 'PROCESSING' AND locked_by = :workerId "
+            + "FOR UPDATE", nativeQuery = true)
+    List<Long> lockOwnedJob(@Param("id") Long id, @Param("workerId") String workerId);
+
+    @Modifying
+    @Query(value = "UPDATE ingestion_job SET locked_at = now() "
+            + "WHERE id IN (:ids) AND status = 'PROCESSING' AND locked_by = :workerId", nativeQuery = true)
+    int renewLeases(@Param("ids") Collection<Long> ids, @Param("workerId") String workerId);
+
+    @Modifying
+    @Query(value = "UPDATE ingestion_job SET stage = :stage, updated_at = now() "
+            + "WHERE id = :id AND status = 'PROCESSING' AND locked_by = :workerId", nativeQuery = true)
+    int markStage(@Param("id") Long id, @Param("workerId") String workerId, @Param("stage") String stage);
+
+    // The parsed resume is saved, so the raw file is no longer needed.
+    @Modifying
+    @Query(value = "UPDATE ingestion_job SET status = 'DONE', stage = 'SAVED', resume_id = :resumeId, content = NULL, "
+            + "last_error = NULL, locked_by = NULL, locked_at = NULL, updated_at = now() "
+            + "WHERE id = :id AND status = 'PROCESSING' AND locked_by = :workerId", nativeQuery = true)
+    int markDone(@Param("id") Long id, @Param("workerId") String workerId, @Param("resumeId") Long resumeId);
+
+    /**
+     * Records a failed attempt: back to PENDING, due after {@code delaySeconds}, or DEAD.
+     */
+    @Modifying
+    @Query(value = "UPDATE ingestion_job SET status = :status, stage = :stage, last_error = :error, "
+            + "next_attempt_at = now() + CAST(:delaySeconds AS DOUBLE PRECISION) * INTERVAL '1' SECOND, "
+            + "locked_by = NULL, locked_at = NULL, updated_at = now() "
+            + "WHERE id = :id AND status = 'PROCESSING' AND locked_by = :workerId", nativeQuery = true)
+    int markFailed(@Param("id") Long id, @Param("workerId") String workerId, @Param("status") String status,
+                   @Param("stage") String stage, @Param("error") String error, @Param("delaySeconds") double delaySeconds);
+
+    /**
+     * Hands jobs back to the queue without charging the attempt, for a worker shutting down.
+     */
+    @Modifying
+    @Query(value = "UPDATE ingestion_job SET status = 'PENDING', attempts = attempts - 1, next_attempt_at = now(), "
+            + "locked_by = NULL, locked_at = NULL, updated_at = now() "
+            + "WHERE id IN (:ids) AND status = 'PROCESSING' AND locked_by = :workerId", nativeQuery = true)
+    int release(@Param("ids") Collection<Long> ids, @Param("workerId") String workerId);
+}
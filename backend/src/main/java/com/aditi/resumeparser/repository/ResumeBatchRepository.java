@@ -0,0 +1,117 @@
+package com.aditi.resumeparser.repository;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.aditi.resumeparser.model.Resume;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Inserts parsed resumes with JDBC batches: one batched INSERT per table instead of one round
+ * trip per row. The entities use IDENTITY ids, which Hibernate cannot batch, so bulk writes go
+ * through here rather than {@code saveAll}.
+ */
+@Repository
+public class ResumeBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResumeBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the resumes and all their child rows in one transaction and sets the generated
+     * resume ids on the given objects.
+     */
+    @Transactional
+    public void insertAll(List<Resume> resumes) {
+        if (resumes.isEmpty()) {
+            return;
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(
+                        "INSERT INTO resume (original_file_name, full_name, email, phone_number, summary) VALUES (?, ?, ?, ?, ?)",
+                        new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Resume resume = resumes.get(i);
+                        ps.setString(1, resume.getOriginalFileName());
+                        ps.setString(2, resume.getFullName());
+                        ps.setString(3, resume.getEmail());
+                        ps.setString(4, resume.getPhoneNumber());
+                        ps.setString(5, resume.getSummary());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return resumes.size();
+                    }
+                },
+                keyHolder);
+
+        // Generated keys come back in batch order.
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < resumes.size(); i++) {
+            resumes.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+        }
+
+        insertChildren("INSERT INTO resume_skill (resume_id, skill_name) VALUES (?, ?)",
+                resumes, Resume::getSkills, (ps, skill) -> ps.setString(2, skill.getSkillName()));
+        insertChildren("INSERT INTO experience (resume_id, job_title, company_name, date_range, description) VALUES (?, ?, ?, ?, ?)",
+                resumes, Resume::getExperiences, (ps, experience) -> {
+                    ps.setString(2, experience.getJobTitle());
+                    ps.setString(3, experience.getCompanyName());
+                    ps.setString(4, experience.getDateRange());
+                    ps.setString(5, experience.getDescription());
+                });
+        insertChildren("INSERT INTO certification (resume_id, certification_name, issuing_organization) VALUES (?, ?, ?)",
+                resumes, Resume::getCertifications, (ps, certification) -> {
+                    ps.setString(2, certification.getCertificationName());
+                    ps.setString(3, certification.getIssuingOrganization());
+                });
+        insertChildren("INSERT INTO project (resume_id, project_name, date_range, description) VALUES (?, ?, ?, ?)",
+                resumes, Resume::getProjects, (ps, project) -> {
+                    ps.setString(2, project.getProjectName());
+                    ps.setString(3, project.getDateRange());
+                    ps.setString(4, project.getDescription());
+                });
+    }
+
+    // Parameter 1 is always the parent resume id; the setter fills in the rest.
+    private <T> void insertChildren(String sql, List<Resume> resumes, Function<Resume, List<T>> children,
+                                    ChildSetter<T> setter) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Resume resume : resumes) {
+            for (T child : children.apply(resume)) {
+                rows.add(new Object[] {resume.getId(), child});
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, (Long) row[0]);
+            @SuppressWarnings("unchecked")
+            T child = (T) row[1];
+            setter.setValues(ps, child);
+        });
+    }
+
+    @FunctionalInterface
+    private interface ChildSetter<T> {
+        void setValues(PreparedStatement ps, T child) throws SQLException;
+    }
+}
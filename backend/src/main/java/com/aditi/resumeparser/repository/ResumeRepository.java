@@ -1,10 +1,34 @@
 package com.aditi.resumeparser.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.aditi.resumeparser.model.Resume;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
+
+    @Query("select max(r.id) from Resume r")
+    Long findMaxId();
+
+    // Scalar projections used to feed the analytics column store without loading entities.
+    // Each covers resumes with afterId < id <= upToId.
+    @Query("select r.id from Resume r where r.id > :afterId and r.id <= :upToId order by r.id")
+    List<Long> findIdsInRange(@Param("afterId") long afterId, @Param("upToId") long upToId);
+
+    @Query("select r.id from Resume r where r.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select c.issuingOrganization from Certification c where c.issuingOrganization is not null "
+            + "and c.resume.id > :afterId and c.resume.id <= :upToId")
+    List<String> findCertificationIssuersInRange(@Param("afterId") long afterId, @Param("upToId") long upToId);
+
+    @Query("select e.dateRange from Experience e where e.dateRange is not null "
+            + "and e.resume.id > :afterId and e.resume.id <= :upToId")
+    List<String> findExperienceDateRangesInRange(@Param("afterId") long afterId, @Param("upToId") long upToId);
 }
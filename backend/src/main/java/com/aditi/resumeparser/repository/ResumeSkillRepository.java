@@ -1,13 +1,24 @@
 package com.aditi.resumeparser.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.aditi.resumeparser.model.ResumeSkill;
 
+import java.util.List;
+
 @Repository
 public interface ResumeSkillRepository extends JpaRepository<ResumeSkill, Long> {
-    // This interface should be empty for now.
     // All the necessary methods like save(), findById(), etc., are inherited from JpaRepository.
     // The problematic method `findDistinctCategoriesByResumeId` has been removed.
-}
\ No newline at end of file
+
+    /**
+     * (resume id, skill name) pairs of resumes with afterId < id <= upToId, ordered by resume so
+     * consecutive rows make up one resume. Used to feed the analytics column store.
+     */
+    @Query("select s.resume.id, s.skillName from ResumeSkill s "
+            + "where s.resume.id > :afterId and s.resume.id <= :upToId order by s.resume.id")
+    List<Object[]> findSkillNamesByResumeInRange(@Param("afterId") long afterId, @Param("upToId") long upToId);
+}
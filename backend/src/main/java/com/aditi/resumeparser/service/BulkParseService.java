@@ -0,0 +1,262 @@
+package com.aditi.resumeparser.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.aditi.resumeparser.model.Resume;
+import com.aditi.resumeparser.repository.ResumeBatchRepository;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Parses every PDF/DOCX file under a directory tree without going through the HTTP upload path.
+ * Used by {@link com.aditi.resumeparser.BulkParseApplication} for backfills and nightly reprocessing.
+ */
+@Service
+public class BulkParseService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkParseService.class);
+
+    private final ResumeService resumeService;
+    private final NLPService nlpService;
+    private final ResumeBatchRepository resumeBatchRepository;
+    private final ObjectMapper objectMapper;
+
+    public BulkParseService(ResumeService resumeService, NLPService nlpService,
+                            ResumeBatchRepository resumeBatchRepository, ObjectMapper objectMapper) {
+        this.resumeService = resumeService;
+        this.nlpService = nlpService;
+        this.resumeBatchRepository = resumeBatchRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Options for a bulk run.
+     *
+     * @param inputDir   directory that is walked recursively for .pdf and .docx files.
+     * @param threads    number of worker threads doing extraction and parsing.
+     * @param outputFile JSONL file to write results to, or {@code null} to save them to the database.
+     * @param batchSize  number of resumes written per JDBC batch (and transaction).
+     */
+    public record Options(Path inputDir, int threads, Path outputFile, int batchSize) {
+    }
+
+    /**
+     * Summary of a finished bulk run.
+     */
+    public record Report(long filesParsed, long filesFailed, long elapsedMillis, long peakRssKb) {
+
+        public double filesPerSecond() {
+            return elapsedMillis > 0 ? (filesParsed + filesFailed) * 1000.0 / elapsedMillis : 0.0;
+        }
+    }
+
+    public Report run(Options options) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        AtomicLong failed = new AtomicLong();
+
+        // A bounded queue with caller-runs keeps the directory walk from racing ahead of the workers.
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(options.threads(), options.threads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(options.threads() * 4),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        ResultSink sink = options.outputFile() != null
+                ? new JsonLinesSink(options.outputFile())
+                : new DatabaseSink(options.batchSize(), failed);
+        try (sink) {
+            try (Stream<Path> files = Files.walk(options.inputDir())) {
+                files.filter(Files::isRegularFile)
+                        .filter(BulkParseService::isSupportedFile)
+                        .forEach(file -> workers.execute(() -> parseFile(file, sink, failed)));
+            } finally {
+                workers.shutdown();
+                workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new Report(sink.written(), failed.get(), elapsedMillis, readPeakRssKb());
+    }
+
+    private void parseFile(Path file, ResultSink sink, AtomicLong failed) {
+        try (InputStream in = Files.newInputStream(file)) {
+            Resume resume = nlpService.parseResumeText(resumeService.extractText(in));
+            resume.setOriginalFileName(file.getFileName().toString());
+            sink.accept(file, resume);
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("Failed to parse {}: {}", file, e.getMessage());
+        }
+    }
+
+    // Same formats the upload endpoint accepts, matched by extension since there is no content type here.
+    private static boolean isSupportedFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".pdf") || name.endsWith(".docx");
+    }
+
+    /**
+     * Reads the peak resident set size (VmHWM) of this process in kB, or -1 where /proc is unavailable.
+     */
+    private static long readPeakRssKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not on Linux; fall through.
+        }
+        return -1;
+    }
+
+    // -------------------- OUTPUT SINKS --------------------
+    private interface ResultSink extends Closeable {
+        void accept(Path file, Resume resume) throws IOException;
+
+        long written();
+    }
+
+    /**
+     * Buffers parsed resumes and inserts each full batch with JDBC batch statements in one transaction.
+     */
+    private class DatabaseSink implements ResultSink {
+        private final int batchSize;
+        private final AtomicLong failed;
+        private final AtomicLong written = new AtomicLong();
+        private List<Resume> buffer = new ArrayList<>();
+
+        DatabaseSink(int batchSize, AtomicLong failed) {
+            this.batchSize = batchSize;
+            this.failed = failed;
+        }
+
+        @Override
+        public void accept(Path file, Resume resume) {
+            List<Resume> full = null;
+            synchronized (this) {
+                buffer.add(resume);
+                if (buffer.size() >= batchSize) {
+                    full = buffer;
+                    buffer = new ArrayList<>(batchSize);
+                }
+            }
+            if (full != null) {
+                flush(full);
+            }
+        }
+
+        @Override
+        public long written() {
+            return written.get();
+        }
+
+        @Override
+        public void close() {
+            List<Resume> remaining;
+            synchronized (this) {
+                remaining = buffer;
+                buffer = new ArrayList<>();
+            }
+            if (!remaining.isEmpty()) {
+                flush(remaining);
+            }
+        }
+
+        private void flush(List<Resume> batch) {
+            try {
+                resumeBatchRepository.insertAll(batch);
+                written.addAndGet(batch.size());
+            } catch (Exception e) {
+                failed.addAndGet(batch.size());
+                log.warn("Failed to save a batch of {} resumes: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Writes one JSON object per line; the entities are flattened to plain maps to avoid
+     * serializing the bidirectional JPA relationships.
+     */
+    private class JsonLinesSink implements ResultSink {
+        private final BufferedWriter writer;
+        private long written;
+
+        JsonLinesSink(Path outputFile) throws IOException {
+            this.writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void accept(Path file, Resume resume) throws IOException {
+            String line = objectMapper.writeValueAsString(toJson(file, resume));
+            synchronized (this) {
+                writer.write(line);
+                writer.newLine();
+                written++;
+            }
+        }
+
+        @Override
+        public synchronized long written() {
+            return written;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            writer.close();
+        }
+
+        private Map<String, Object> toJson(Path file, Resume resume) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("file", file.toString());
+            json.put("fullName", resume.getFullName());
+            json.put("email", resume.getEmail());
+            json.put("phoneNumber", resume.getPhoneNumber());
+            json.put("skills", resume.getSkills().stream()
+                    .map(skill -> skill.getSkillName())
+                    .collect(Collectors.toList()));
+            json.put("experiences", resume.getExperiences().stream()
+                    .map(exp -> entry("companyName", exp.getCompanyName(), "jobTitle", exp.getJobTitle(),
+                            "dateRange", exp.getDateRange()))
+                    .collect(Collectors.toList()));
+            json.put("projects", resume.getProjects().stream()
+                    .map(proj -> entry("projectName", proj.getProjectName(), "dateRange", proj.getDateRange(),
+                            "description", proj.getDescription()))
+                    .collect(Collectors.toList()));
+            json.put("certifications", resume.getCertifications().stream()
+                    .map(cert -> entry("certificationName", cert.getCertificationName(),
+                            "issuingOrganization", cert.getIssuingOrganization()))
+                    .collect(Collectors.toList()));
+            return json;
+        }
+
+        // Map.of rejects null values, which the parser produces for fields it could not find.
+        private Map<String, Object> entry(Object... keysAndValues) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < keysAndValues.length; i += 2) {
+                map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.aditi.resumeparser.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.aditi.resumeparser.model.IngestionJob;
+import com.aditi.resumeparser.model.Resume;
+import com.aditi.resumeparser.repository.IngestionJobRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * State transitions of the durable ingestion queue. Each method is its own short transaction,
+ * so row locks are only held while a job is claimed or its outcome recorded, never while the
+ * document is being processed.
+ */
+@Service
+public class IngestionQueueService {
+
+    private final IngestionJobRepository jobRepository;
+    private final ResumeService resumeService;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration leaseTimeout;
+
+    public IngestionQueueService(IngestionJobRepository jobRepository, ResumeService resumeService,
+                                 @Value("${ingestion.max-attempts:5}") int maxAttempts,
+                                 @Value("${ingestion.backoff-base-ms:5000}") long backoffBaseMillis,
+                                 @Value("${ingestion.backoff-max-ms:3600000}") long backoffMaxMillis,
+                                 @Value("${ingestion.lease-timeout-ms:600000}") long leaseTimeoutMillis) {
+        this.jobRepository = jobRepository;
+        this.resumeService = resumeService;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofMillis(backoffBaseMillis);
+        this.backoffMax = Duration.ofMillis(backoffMaxMillis);
+        this.leaseTimeout = Duration.ofMillis(leaseTimeoutMillis);
+    }
+
+    /**
+     * Records a received file so it survives a restart; a worker on any node will pick it up.
+     */
+    @Transactional
+    public IngestionJob enqueue(String originalFileName, String contentType, byte[] content) {
+        IngestionJob job = new IngestionJob();
+        job.setOriginalFileName(originalFileName != null ? originalFileName : "unnamed");
+        job.setContentType(contentType);
+        job.setContent(content);
+        return jobRepository.save(job);
+    }
+
+    public Optional<IngestionJob> findById(Long jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    /**
+     * Claims up to {@code limit} due jobs for {@code workerId}. A claim counts as an attempt. A job
+     * whose lease expired on its last attempt is moved to DEAD instead of being handed out again:
+     * a document that keeps crashing its worker must not take down a node every lease period.
+     */
+    @Transactional
+    public List<IngestionJob> claim(String workerId, int limit) {
+        jobRepository.deadLetterExpiredLeases(leaseSeconds(), maxAttempts);
+        List<Long> ids = jobRepository.lockClaimableJobIds(leaseSeconds(), limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        jobRepository.markClaimed(ids, workerId);
+        return jobRepository.findAllById(ids);
+    }
+
+    /**
+     * Extends the lease of jobs {@code workerId} is still processing, so a slow but live worker is
+     * not mistaken for a crashed one.
+     */
+    @Transactional
+    public void renewLeases(String workerId, Collection<Long> jobIds) {
+        if (!jobIds.isEmpty()) {
+            jobRepository.renewLeases(jobIds, workerId);
+        }
+    }
+
+    /**
+     * Records that a running job reached {@code stage}. Returns false if {@code workerId} no longer
+     * holds the job, in which case there is no point carrying on with it.
+     */
+    @Transactional
+    public boolean advance(Long jobId, String workerId, IngestionJob.Stage stage) {
+        return jobRepository.markStage(jobId, workerId, stage.name()) == 1;
+    }
+
+    /**
+     * Saves the parsed resume and marks the job DONE in one transaction, but only if
+     * {@code workerId} still holds the job. Returns false, saving nothing, if the lease was lost
+     * and another worker re-claimed it; that worker's result is the one that counts.
+     */
+    @Transactional
+    public boolean complete(Long jobId, String workerId, Resume parsedResume) {
+        if (jobRepository.lockOwnedJob(jobId, workerId).isEmpty()) {
+            return false;
+        }
+        Resume savedResume = resumeService.save(parsedResume);
+        return jobRepository.markDone(jobId, workerId, savedResume.getId()) == 1;
+    }
+
+    /**
+     * Schedules a retry with exponential backoff (base * 2^(attempts - 1), capped), or moves the
+     * job to DEAD once it has used all its attempts. {@code job} is the claimed job, so its attempt
+     * count includes the failed attempt.
+     */
+    @Transactional
+    public void fail(IngestionJob job, String workerId, IngestionJob.Stage stageReached, String error) {
+        boolean dead = job.getAttempts() >= maxAttempts;
+        jobRepository.markFailed(job.getId(), workerId,
+                (dead ? IngestionJob.Status.DEAD : IngestionJob.Status.PENDING).name(), stageReached.name(), error,
+                dead ? 0 : backoff(job.getAttempts()).toMillis() / 1000.0);
+    }
+
+    /**
+     * Returns jobs {@code workerId} did not finish to the queue, due immediately and without
+     * charging the attempt. Used when a worker shuts down.
+     */
+    @Transactional
+    public void release(String workerId, Collection<Long> jobIds) {
+        if (!jobIds.isEmpty()) {
+            jobRepository.release(jobIds, workerId);
+        }
+    }
+
+    Duration backoff(int attempts) {
+        // Cap the shift too, so large attempt counts cannot overflow.
+        Duration delay = backoffBase.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 30));
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    private double leaseSeconds() {
+        return leaseTimeout.toMillis() / 1000.0;
+    }
+}
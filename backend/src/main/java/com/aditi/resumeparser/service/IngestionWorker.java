@@ -0,0 +1,156 @@
+package com.aditi.resumeparser.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.aditi.resumeparser.model.IngestionJob;
+import com.aditi.resumeparser.model.Resume;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the ingestion queue and processes claimed jobs on a fixed pool. Every node runs one of
+ * these; they coordinate only through row locks on {@code ingestion_job}, so adding nodes adds
+ * throughput without a broker. Leases of running jobs are renewed while they run, so only a
+ * worker that actually died has its jobs re-claimed.
+ */
+@Component
+public class IngestionWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestionWorker.class);
+
+    private final IngestionQueueService queueService;
+    private final ResumeService resumeService;
+    private final NLPService nlpService;
+    private final boolean enabled;
+    private final int threads;
+    private final long shutdownTimeoutMillis;
+    private final ExecutorService executor;
+    // Jobs claimed by this worker and not finished yet, whether running or waiting for a thread.
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopping;
+
+    // The fencing token behind every owned-row update. "pid@hostname" alone repeats across container
+    // restarts (pid 1, same hostname), so a random per-process UUID leads; the rest is for humans
+    // reading locked_by, and is cut to fit the column.
+    private final String workerId = truncate(UUID.randomUUID() + " " + ManagementFactory.getRuntimeMXBean().getName(), 255);
+
+    public IngestionWorker(IngestionQueueService queueService, ResumeService resumeService, NLPService nlpService,
+                           @Value("${ingestion.worker.enabled:true}") boolean enabled,
+                           @Value("${ingestion.worker.threads:4}") int threads,
+                           @Value("${ingestion.worker.shutdown-timeout-ms:20000}") long shutdownTimeoutMillis) {
+        this.queueService = queueService;
+        this.resumeService = resumeService;
+        this.nlpService = nlpService;
+        this.enabled = enabled;
+        this.threads = threads;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("ingestion-worker-"));
+    }
+
+    /**
+     * Claims only as many jobs as there are idle threads, so claimed rows never sit in a local
+     * queue where other nodes can't reach them.
+     */
+    @Scheduled(fixedDelayString = "${ingestion.worker.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled || !nlpService.isReady()) {
+            return;
+        }
+        int idle = threads - inFlight.size();
+        if (idle <= 0) {
+            return;
+        }
+        List<IngestionJob> jobs = queueService.claim(workerId, idle);
+        for (IngestionJob job : jobs) {
+            inFlight.add(job.getId());
+            executor.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    inFlight.remove(job.getId());
+                }
+            });
+        }
+    }
+
+    /**
+     * Keeps the leases of running jobs fresh; must run well within {@code ingestion.lease-timeout-ms}.
+     */
+    @Scheduled(fixedDelayString = "${ingestion.worker.lease-renewal-ms:60000}")
+    public void renewLeases() {
+        if (enabled) {
+            queueService.renewLeases(workerId, Set.copyOf(inFlight));
+        }
+    }
+
+    /**
+     * Gives running jobs a bounded time to finish, then hands the unfinished ones back to the queue
+     * so a redeploy neither parks them for a whole lease nor charges them an attempt.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (executor.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            return;
+        }
+        Set<Long> unfinished = Set.copyOf(inFlight);
+        // Interrupted jobs are released below rather than recorded as failed attempts.
+        stopping = true;
+        executor.shutdownNow();
+        log.info("Releasing {} unfinished ingestion jobs", unfinished.size());
+        // A job that still finishes after this is discarded by complete(), since it is no longer held.
+        queueService.release(workerId, unfinished);
+    }
+
+    private void process(IngestionJob job) {
+        IngestionJob.Stage stage = IngestionJob.Stage.RECEIVED;
+        try {
+            String rawText = resumeService.extractText(new ByteArrayInputStream(job.getContent()));
+            stage = IngestionJob.Stage.EXTRACTED;
+            if (!queueService.advance(job.getId(), workerId, stage)) {
+                logLostLease(job);
+                return;
+            }
+
+            Resume parsedResume = nlpService.parseResumeText(rawText);
+            parsedResume.setOriginalFileName(job.getOriginalFileName());
+            stage = IngestionJob.Stage.PARSED;
+            if (!queueService.advance(job.getId(), workerId, stage)) {
+                logLostLease(job);
+                return;
+            }
+
+            if (!queueService.complete(job.getId(), workerId, parsedResume)) {
+                logLostLease(job);
+            }
+        } catch (Exception e) {
+            if (stopping) {
+                return;
+            }
+            log.warn("Ingestion job {} failed at stage {} (attempt {}): {}", job.getId(), stage, job.getAttempts(), e.getMessage());
+            queueService.fail(job, workerId, stage, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private void logLostLease(IngestionJob job) {
+        log.warn("Ingestion job {} was re-claimed by another worker; discarding this attempt", job.getId());
+    }
+}
@@ -5,14 +5,23 @@ import opennlp.tools.namefind.TokenNameFinderModel;
 import opennlp.tools.tokenize.TokenizerME;
 import opennlp.tools.tokenize.TokenizerModel;
 import opennlp.tools.util.Span;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
 import com.aditi.resumeparser.model.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -20,8 +29,14 @@ import java.util.stream.Collectors;
 @Service
 public class NLPService {
 
-    private final TokenizerME tokenizer;
-    private final NameFinderME nameFinder;
+    private static final Logger log = LoggerFactory.getLogger(NLPService.class);
+
+    // The models are loaded in the background so they don't hold up context refresh.
+    // They are thread-safe, but the ME wrappers are not, so each worker thread gets its own.
+    private final CompletableFuture<TokenizerModel> tokenizerModel;
+    private final CompletableFuture<TokenNameFinderModel> nameFinderModel;
+    private final ThreadLocal<TokenizerME> tokenizer;
+    private final ThreadLocal<NameFinderME> nameFinder;
 
     private static final Pattern EMAIL_PATTERN = Pattern.compile("\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Z|a-z]{2,7}\\b");
     private static final Pattern PHONE_PATTERN = Pattern.compile("(\\+?\\d{1,3}[- ]?)?\\(?\\d{3}\\)?[-. ]?\\d{3}[-. ]?\\d{4}");
@@ -40,12 +55,35 @@ public class NLPService {
     ));
 
     public NLPService() {
-        try {
-            this.tokenizer = loadTokenizerModel();
-            this.nameFinder = loadNameFinderModel();
-        } catch (IOException e) {
-            throw new IllegalStateException("FATAL: Could not load NLP models from classpath.", e);
-        }
+        long start = System.nanoTime();
+        // One thread per model, so they load in parallel even where the common pool has a single thread.
+        ExecutorService loader = Executors.newFixedThreadPool(2, new CustomizableThreadFactory("nlp-model-loader-"));
+        this.tokenizerModel = CompletableFuture.supplyAsync(NLPService::loadTokenizerModel, loader);
+        this.nameFinderModel = CompletableFuture.supplyAsync(NLPService::loadNameFinderModel, loader);
+        CompletableFuture.allOf(tokenizerModel, nameFinderModel).whenComplete((ignored, error) -> {
+            loader.shutdown();
+            if (error != null) {
+                log.error("FATAL: Could not load NLP models from classpath.", error);
+            } else {
+                log.info("NLP models loaded in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        });
+        this.tokenizer = ThreadLocal.withInitial(() -> new TokenizerME(awaitModel(tokenizerModel)));
+        this.nameFinder = ThreadLocal.withInitial(() -> new NameFinderME(awaitModel(nameFinderModel)));
+    }
+
+    /**
+     * Whether all NLP models have finished loading. Used as the readiness signal for the health endpoint.
+     */
+    public boolean isReady() {
+        return isLoaded(tokenizerModel) && isLoaded(nameFinderModel);
+    }
+
+    /**
+     * Whether loading any of the NLP models failed; the service will never become ready in that case.
+     */
+    public boolean hasFailed() {
+        return tokenizerModel.isCompletedExceptionally() || nameFinderModel.isCompletedExceptionally();
     }
 
     public Resume parseResumeText(String rawText) {
@@ -76,8 +114,10 @@ public class NLPService {
                 if (i > 0) return lines[i - 1].trim();
             }
         }
-        String[] initialTokens = tokenizer.tokenize(String.join(" ", Arrays.copyOf(text.split("\\s+"), 50)));
-        Span[] nameSpans = nameFinder.find(initialTokens);
+        String[] initialTokens = tokenizer.get().tokenize(String.join(" ", Arrays.copyOf(text.split("\\s+"), 50)));
+        NameFinderME finder = nameFinder.get();
+        Span[] nameSpans = finder.find(initialTokens);
+        finder.clearAdaptiveData();
         return (nameSpans.length > 0) ? String.join(" ", Arrays.copyOfRange(initialTokens, nameSpans[0].getStart(), nameSpans[0].getEnd())) : null;
     }
 
@@ -206,15 +246,32 @@ public class NLPService {
         return m.find() ? m.group(1).trim() : null;
     }
 
-    private TokenizerME loadTokenizerModel() throws IOException {
+    private static boolean isLoaded(CompletableFuture<?> model) {
+        return model.isDone() && !model.isCompletedExceptionally();
+    }
+
+    // Blocks callers that arrive before background loading has finished.
+    private static <T> T awaitModel(CompletableFuture<T> model) {
+        try {
+            return model.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("FATAL: Could not load NLP models from classpath.", e.getCause());
+        }
+    }
+
+    private static TokenizerModel loadTokenizerModel() {
         try (InputStream modelIn = new ClassPathResource("nlp-models/en-token.bin").getInputStream()) {
-            return new TokenizerME(new TokenizerModel(modelIn));
+            return new TokenizerModel(modelIn);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    private NameFinderME loadNameFinderModel() throws IOException {
+    private static TokenNameFinderModel loadNameFinderModel() {
         try (InputStream modelIn = new ClassPathResource("nlp-models/en-ner-person.bin").getInputStream()) {
-            return new NameFinderME(new TokenNameFinderModel(modelIn));
+            return new TokenNameFinderModel(modelIn);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 }
@@ -0,0 +1,229 @@
+package com.aditi.resumeparser.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aditi.resumeparser.repository.ResumeRepository;
+import com.aditi.resumeparser.repository.ResumeSkillRepository;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the in-memory {@link ResumeColumnStore} up to date and answers the dashboard queries from it.
+ * The database is the only source: the store is seeded when the application is ready and then
+ * catches up periodically with resumes saved since, whichever node or process saved them
+ * (uploads, queue workers on other nodes, the bulk CLI).
+ */
+@Service
+public class ResumeAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeAnalyticsService.class);
+
+    private static final String MONTHS = "janfebmaraprmayjunjulaugsepoctnovdec";
+    private static final Pattern MONTH_YEAR = Pattern.compile("(Jan|Feb|Mar|Apr|May|Jun|Jul|Aug|Sep|Oct|Nov|Dec)[a-z]*\\s*(\\d{4})", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ONGOING = Pattern.compile("Present|Current", Pattern.CASE_INSENSITIVE);
+
+    // Resumes are loaded in id windows so a failed pass never leaves half a window in the store.
+    private static final int WINDOW_SIZE = 5000;
+    private static final int MAX_PENDING_IDS = 10_000;
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
+    private final ResumeColumnStore store = new ResumeColumnStore();
+    private final ResumeRepository resumeRepository;
+    private final ResumeSkillRepository resumeSkillRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final boolean enabled;
+    private final long pendingIdTimeoutNanos;
+
+    // Both only touched while holding syncLock. Every resume with an id up to lastSeenId is in the
+    // store, except the pending ids: ids below lastSeenId that were not visible yet when their
+    // window was loaded. IDENTITY ids are assigned at insert but become visible at commit, so a
+    // lower id can commit after a higher one; pending ids are re-checked on every pass until they
+    // show up or time out (rolled-back inserts leave permanent gaps).
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private long lastSeenId;
+    private final TreeMap<Long, Long> pendingIds = new TreeMap<>(); // id -> System.nanoTime() first missed
+
+    public ResumeAnalyticsService(ResumeRepository resumeRepository, ResumeSkillRepository resumeSkillRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${analytics.enabled:true}") boolean enabled,
+                                  @Value("${analytics.pending-id-timeout-ms:600000}") long pendingIdTimeoutMillis) {
+        this.resumeRepository = resumeRepository;
+        this.resumeSkillRepository = resumeSkillRepository;
+        this.enabled = enabled;
+        this.pendingIdTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(pendingIdTimeoutMillis);
+        // One snapshot for the whole pass, so the id list and the projections agree on what is committed.
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Seeds the column store from the existing rows using scalar projections, never entities.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadExistingResumes() {
+        catchUp();
+    }
+
+    /**
+     * Adds resumes committed since the last pass. Skipped while another pass (such as the startup
+     * seed) is still running.
+     */
+    @Scheduled(fixedDelayString = "${analytics.refresh-interval-ms:5000}",
+            initialDelayString = "${analytics.refresh-interval-ms:5000}")
+    public void catchUp() {
+        if (!enabled || !syncLock.tryLock()) {
+            return;
+        }
+        try {
+            snapshotTransaction.executeWithoutResult(status -> {
+                recheckPendingIds();
+                loadNewResumes();
+            });
+        } catch (RuntimeException e) {
+            // Nothing from the failed window was applied; the next pass retries it.
+            log.warn("Analytics catch-up failed: {}", e.getMessage());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void loadNewResumes() {
+        Long maxId = resumeRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+        while (lastSeenId < maxId) {
+            long upToId = Math.min(maxId, lastSeenId + WINDOW_SIZE);
+            List<Long> missingIds = new ArrayList<>();
+            long expected = lastSeenId + 1;
+            for (long id : resumeRepository.findIdsInRange(lastSeenId, upToId)) {
+                for (; expected < id; expected++) {
+                    missingIds.add(expected);
+                }
+                expected = id + 1;
+            }
+            // upToId is either a visible id (maxId) or the end of a full window; ids past the last
+            // visible one in a window are gaps too.
+            for (; expected <= upToId; expected++) {
+                missingIds.add(expected);
+            }
+            loadWindow(lastSeenId, upToId);
+            lastSeenId = upToId;
+            missingIds.forEach(this::addPendingId);
+        }
+    }
+
+    private void recheckPendingIds() {
+        long now = System.nanoTime();
+        pendingIds.values().removeIf(firstMissed -> now - firstMissed > pendingIdTimeoutNanos);
+        List<Long> ids = new ArrayList<>(pendingIds.keySet());
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + IN_CLAUSE_CHUNK));
+            for (long id : resumeRepository.findExistingIds(chunk)) {
+                loadWindow(id - 1, id);
+                pendingIds.remove(id);
+            }
+        }
+    }
+
+    private void addPendingId(long id) {
+        pendingIds.put(id, System.nanoTime());
+        if (pendingIds.size() > MAX_PENDING_IDS) {
+            // The oldest ids are the least likely to still be in flight.
+            pendingIds.pollFirstEntry();
+        }
+    }
+
+    // Reads everything for afterId < id <= upToId first and only then adds it to the store.
+    private void loadWindow(long afterId, long upToId) {
+        List<List<String>> skillRows = new ArrayList<>();
+        Object currentResumeId = null;
+        for (Object[] row : resumeSkillRepository.findSkillNamesByResumeInRange(afterId, upToId)) {
+            if (!row[0].equals(currentResumeId)) {
+                skillRows.add(new ArrayList<>());
+                currentResumeId = row[0];
+            }
+            skillRows.get(skillRows.size() - 1).add((String) row[1]);
+        }
+        List<String> issuers = resumeRepository.findCertificationIssuersInRange(afterId, upToId);
+        int[] experienceMonths = resumeRepository.findExperienceDateRangesInRange(afterId, upToId).stream()
+                .mapToInt(ResumeAnalyticsService::durationMonths)
+                .filter(months -> months >= 0)
+                .toArray();
+
+        skillRows.forEach(store::addSkillRow);
+        issuers.forEach(store::addIssuer);
+        for (int months : experienceMonths) {
+            store.addExperienceMonths(months);
+        }
+    }
+
+    public int resumesWithSkills() {
+        return store.resumeCount();
+    }
+
+    public List<ResumeColumnStore.Count> topSkills(int limit) {
+        return store.topSkills(limit);
+    }
+
+    public List<ResumeColumnStore.Count> topCertificationIssuers(int limit) {
+        return store.topIssuers(limit);
+    }
+
+    public ResumeColumnStore.CoOccurrence skillCoOccurrence(int limit) {
+        return store.skillCoOccurrence(limit);
+    }
+
+    public int[] experienceYearsHistogram(int maxYears) {
+        return store.experienceYearsHistogram(maxYears);
+    }
+
+    /**
+     * Length in months of a date range such as "Jan 2020 - Mar 2022" or "Jun 2021 - Present",
+     * or -1 if the range has no recognizable start and end.
+     */
+    static int durationMonths(String dateRange) {
+        return durationMonths(dateRange, YearMonth.now());
+    }
+
+    // "Present" and "Current" end at currentMonth.
+    static int durationMonths(String dateRange, YearMonth currentMonth) {
+        Matcher matcher = MONTH_YEAR.matcher(dateRange);
+        if (!matcher.find()) {
+            return -1;
+        }
+        int start = monthIndex(matcher);
+        int end;
+        if (matcher.find()) {
+            end = monthIndex(matcher);
+        } else if (ONGOING.matcher(dateRange).find()) {
+            end = currentMonth.getYear() * 12 + currentMonth.getMonthValue() - 1;
+        } else {
+            return -1;
+        }
+        return end >= start ? end - start : -1;
+    }
+
+    private static int monthIndex(Matcher matcher) {
+        int month = MONTHS.indexOf(matcher.group(1).toLowerCase(Locale.ROOT)) / 3;
+        return Integer.parseInt(matcher.group(2)) * 12 + month;
+    }
+}
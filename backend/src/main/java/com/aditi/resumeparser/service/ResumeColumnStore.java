@@ -0,0 +1,279 @@
+package com.aditi.resumeparser.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Append-only, dictionary-encoded column store of the resume data the analytics dashboards need.
+ * Strings are stored once in a dictionary and every column is a plain {@code int[]} of ids, so
+ * aggregations run over primitive arrays instead of JPA entities.
+ *
+ * <p>Skills are stored per resume in CSR form: the skills of row {@code r} are
+ * {@code skillIds[rowStart[r] .. rowStart[r + 1])}. Certification issuers and experience
+ * durations are flat columns since they are only ever aggregated as a whole.
+ *
+ * <p>Writers take the write lock; queries take the read lock only to capture the current array
+ * and length. Arrays are never modified below their length (growing copies into a new array),
+ * so the captured prefix can be aggregated in parallel without holding the lock.
+ */
+public class ResumeColumnStore {
+
+    /** Number of column values each parallel task aggregates. */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    public record Count(String name, int count) {
+    }
+
+    public record CoOccurrence(List<String> skills, int[][] counts) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Dictionary skills = new Dictionary();
+    private final Dictionary issuers = new Dictionary();
+
+    private int[] skillIds = new int[1024];
+    private int skillCount;
+    private int[] rowStart = new int[256];
+    private int rowCount;
+
+    private int[] issuerIds = new int[256];
+    private int issuerCount;
+
+    private int[] experienceMonths = new int[256];
+    private int experienceCount;
+
+    // -------------------- WRITES --------------------
+    public void addSkillRow(Collection<String> skillNames) {
+        lock.writeLock().lock();
+        try {
+            skillIds = ensureCapacity(skillIds, skillCount + skillNames.size());
+            for (String skillName : skillNames) {
+                skillIds[skillCount++] = skills.idOf(skillName);
+            }
+            rowStart = ensureCapacity(rowStart, rowCount + 2);
+            rowStart[++rowCount] = skillCount;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addIssuer(String issuer) {
+        lock.writeLock().lock();
+        try {
+            issuerIds = ensureCapacity(issuerIds, issuerCount + 1);
+            issuerIds[issuerCount++] = issuers.idOf(issuer);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addExperienceMonths(int months) {
+        lock.writeLock().lock();
+        try {
+            experienceMonths = ensureCapacity(experienceMonths, experienceCount + 1);
+            experienceMonths[experienceCount++] = months;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -------------------- QUERIES --------------------
+    public int resumeCount() {
+        lock.readLock().lock();
+        try {
+            return rowCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} most frequent skills with the number of resumes listing them.
+     */
+    public List<Count> topSkills(int limit) {
+        int[] ids;
+        int length;
+        List<String> names;
+        lock.readLock().lock();
+        try {
+            ids = skillIds;
+            length = skillCount;
+            names = skills.snapshot();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return topN(histogram(ids, length, names.size(), IntUnaryOperator.identity()), names, limit);
+    }
+
+    /**
+     * The {@code limit} most frequent certification issuers with their certification counts.
+     */
+    public List<Count> topIssuers(int limit) {
+        int[] ids;
+        int length;
+        List<String> names;
+        lock.readLock().lock();
+        try {
+            ids = issuerIds;
+            length = issuerCount;
+            names = issuers.snapshot();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return topN(histogram(ids, length, names.size(), IntUnaryOperator.identity()), names, limit);
+    }
+
+    /**
+     * Number of experience entries per whole year of duration; the last bucket collects
+     * everything of {@code maxYears} years or longer.
+     */
+    public int[] experienceYearsHistogram(int maxYears) {
+        int[] months;
+        int length;
+        lock.readLock().lock();
+        try {
+            months = experienceMonths;
+            length = experienceCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+        return histogram(months, length, maxYears + 1, m -> Math.min(m / 12, maxYears));
+    }
+
+    /**
+     * Co-occurrence matrix of the {@code limit} most frequent skills: {@code counts[a][b]} is the
+     * number of resumes listing both skill {@code a} and skill {@code b}; the diagonal holds the
+     * skill's own resume count.
+     */
+    public CoOccurrence skillCoOccurrence(int limit) {
+        int[] ids;
+        int[] starts;
+        int rows;
+        List<String> names;
+        lock.readLock().lock();
+        try {
+            ids = skillIds;
+            starts = rowStart;
+            rows = rowCount;
+            names = skills.snapshot();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int[] top = topIds(histogram(ids, starts[rows], names.size(), IntUnaryOperator.identity()), names, limit);
+        int k = top.length;
+        int[] matrixIndex = new int[names.size()];
+        Arrays.fill(matrixIndex, -1);
+        List<String> topNames = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            matrixIndex[top[i]] = i;
+            topNames.add(names.get(top[i]));
+        }
+
+        int chunks = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int[] flat = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    int[] local = new int[k * k];
+                    int[] present = new int[k];
+                    int end = Math.min(rows, (chunk + 1) * CHUNK_SIZE);
+                    for (int row = chunk * CHUNK_SIZE; row < end; row++) {
+                        int n = 0;
+                        for (int i = starts[row]; i < starts[row + 1]; i++) {
+                            int index = matrixIndex[ids[i]];
+                            if (index >= 0 && n < k) {
+                                present[n++] = index;
+                            }
+                        }
+                        for (int a = 0; a < n; a++) {
+                            for (int b = 0; b < n; b++) {
+                                local[present[a] * k + present[b]]++;
+                            }
+                        }
+                    }
+                    return local;
+                })
+                .reduce(ResumeColumnStore::sum)
+                .orElseGet(() -> new int[k * k]);
+
+        int[][] counts = new int[k][];
+        for (int a = 0; a < k; a++) {
+            counts[a] = Arrays.copyOfRange(flat, a * k, (a + 1) * k);
+        }
+        return new CoOccurrence(topNames, counts);
+    }
+
+    // -------------------- HELPERS --------------------
+
+    // Counts values[0..length) into buckets in parallel: one local histogram per chunk, merged at the end.
+    private static int[] histogram(int[] values, int length, int buckets, IntUnaryOperator bucketOf) {
+        int chunks = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    int[] local = new int[buckets];
+                    int end = Math.min(length, (chunk + 1) * CHUNK_SIZE);
+                    for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                        local[bucketOf.applyAsInt(values[i])]++;
+                    }
+                    return local;
+                })
+                .reduce(ResumeColumnStore::sum)
+                .orElseGet(() -> new int[buckets]);
+    }
+
+    private static int[] sum(int[] a, int[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+        return a;
+    }
+
+    private static List<Count> topN(int[] counts, List<String> names, int limit) {
+        return Arrays.stream(topIds(counts, names, limit))
+                .mapToObj(id -> new Count(names.get(id), counts[id]))
+                .toList();
+    }
+
+    // Ids with a non-zero count, highest count first and ties broken by name so results are stable.
+    private static int[] topIds(int[] counts, List<String> names, int limit) {
+        return IntStream.range(0, counts.length)
+                .filter(id -> counts[id] > 0)
+                .boxed()
+                .sorted((a, b) -> counts[b] != counts[a] ? Integer.compare(counts[b], counts[a]) : names.get(a).compareTo(names.get(b)))
+                .limit(limit)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int[] ensureCapacity(int[] array, int required) {
+        return required <= array.length ? array : Arrays.copyOf(array, Math.max(required, array.length * 2));
+    }
+
+    /**
+     * String-to-id dictionary. Values are matched case-insensitively and the first spelling seen is kept.
+     * Only accessed while holding the store's lock.
+     */
+    private static class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+
+        int idOf(String value) {
+            return ids.computeIfAbsent(value.trim().toLowerCase(Locale.ROOT), key -> {
+                names.add(value.trim());
+                return names.size() - 1;
+            });
+        }
+
+        List<String> snapshot() {
+            return List.copyOf(names);
+        }
+    }
+}
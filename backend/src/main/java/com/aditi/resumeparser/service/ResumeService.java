@@ -9,6 +9,7 @@ import com.aditi.resumeparser.model.Resume;
 import com.aditi.resumeparser.repository.ResumeRepository;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 
 @Service
@@ -18,11 +19,11 @@ public class ResumeService {
     private final NLPService nlpService;
     private final Tika tika;
 
-    // The constructor now correctly injects all required services (ResumeRepository and NLPService).
-    public ResumeService(ResumeRepository resumeRepository, NLPService nlpService) {
+    // The constructor injects all required services; Tika comes from ApplicationConfig with only the PDF/DOCX parsers.
+    public ResumeService(ResumeRepository resumeRepository, NLPService nlpService, Tika tika) {
         this.resumeRepository = resumeRepository;
         this.nlpService = nlpService;
-        this.tika = new Tika(); // Initialize Tika here
+        this.tika = tika;
     }
 
     /**
@@ -36,7 +37,7 @@ public class ResumeService {
      */
     public Resume processAndSaveResume(MultipartFile file) throws IOException, TikaException {
         // Step 1: Extract raw text content from the file using Apache Tika.
-        String rawText = tika.parseToString(file.getInputStream());
+        String rawText = extractText(file.getInputStream());
 
         // Step 2: Pass the raw text to the NLPService to get a fully parsed and structured Resume object.
         Resume parsedResume = nlpService.parseResumeText(rawText);
@@ -45,7 +46,22 @@ public class ResumeService {
         parsedResume.setOriginalFileName(file.getOriginalFilename());
 
         // Step 4: Save the complete, structured Resume object to the database via the repository.
-        return resumeRepository.save(parsedResume);
+        return save(parsedResume);
+    }
+
+    /**
+     * Saves an already parsed resume.
+     */
+    public Resume save(Resume resume) {
+        return resumeRepository.save(resume);
+    }
+
+    /**
+     * Extracts the raw text content of a PDF/DOCX stream using the shared Tika instance.
+     * The stream is closed once extraction is finished.
+     */
+    public String extractText(InputStream content) throws IOException, TikaException {
+        return tika.parseToString(content);
     }
     
     //private final ResumeRepository resumeRepository;
@@ -0,0 +1,155 @@
+package com.aditi.resumeparser.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.aditi.resumeparser.model.Resume;
+
+import java.io.ByteArrayInputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs the upload pipeline (extract, parse, save) off the request thread and reports progress
+ * after every stage. Extraction, parsing and saving run on separate bounded pools, so a burst of
+ * uploads queues up instead of claiming one servlet thread each. Queued uploads hold their file
+ * bytes, so admission is limited by the total size of uploads in flight
+ * ({@code upload.stream.max-in-flight}), not only by queue length; past either limit new uploads
+ * are rejected instead of piling up.
+ */
+@Service
+public class ResumeStreamingService {
+
+    private final ResumeService resumeService;
+    private final NLPService nlpService;
+    private final ExecutorService extractionExecutor;
+    private final ExecutorService parsingExecutor;
+    // Saving blocks on JDBC, so it gets its own small pool instead of holding CPU-sized parsing threads.
+    private final ExecutorService saveExecutor;
+
+    // One permit per KiB of upload in flight.
+    private final Semaphore inFlightKb;
+    private final int maxInFlightKb;
+
+    public ResumeStreamingService(ResumeService resumeService, NLPService nlpService,
+                                  @Value("${upload.stream.extraction-threads:4}") int extractionThreads,
+                                  @Value("${upload.stream.parsing-threads:4}") int parsingThreads,
+                                  @Value("${upload.stream.save-threads:2}") int saveThreads,
+                                  @Value("${upload.stream.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${upload.stream.max-in-flight:256MB}") DataSize maxInFlight) {
+        this.resumeService = resumeService;
+        this.nlpService = nlpService;
+        this.extractionExecutor = boundedExecutor("resume-extract-", extractionThreads, queueCapacity);
+        this.parsingExecutor = boundedExecutor("resume-parse-", parsingThreads, queueCapacity);
+        this.saveExecutor = boundedExecutor("resume-save-", saveThreads, queueCapacity);
+        this.maxInFlightKb = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxInFlight.toKilobytes()));
+        this.inFlightKb = new Semaphore(maxInFlightKb);
+    }
+
+    /**
+     * Reserves room for an upload of {@code bytes} before its content is read into memory.
+     * Returns false when the in-flight budget is used up. A successful reservation is released by
+     * {@link #process} when the pipeline finishes, or by {@link #release} if it never gets there.
+     */
+    public boolean tryReserve(long bytes) {
+        return inFlightKb.tryAcquire(permitsFor(bytes));
+    }
+
+    public void release(long bytes) {
+        inFlightKb.release(permitsFor(bytes));
+    }
+
+    // Capped at the whole budget, so a single file larger than the budget can still run on its own.
+    private int permitsFor(long bytes) {
+        return (int) Math.min(maxInFlightKb, Math.max(1, (bytes + 1023) / 1024));
+    }
+
+    /**
+     * Processes an uploaded file asynchronously. {@code progress} is called with the stage name
+     * ("received", "extracted", "parsed", "saved") and its details as each stage finishes.
+     * The caller must have reserved {@code content.length} bytes with {@link #tryReserve}; the
+     * reservation is released when the returned future completes.
+     *
+     * @param content  The raw bytes of the uploaded PDF/DOCX file.
+     * @param fileName The original file name to store with the resume.
+     * @param progress Receives one event per completed stage, from whichever thread ran the stage.
+     * @return A future completed with the saved resume, or exceptionally if any stage failed or a
+     *         later stage's queue was full ({@link RejectedExecutionException}).
+     * @throws RejectedExecutionException If the extraction queue is full. Nothing runs after the
+     *         "received" event and the reservation is released, so the caller can still answer
+     *         with a plain error status.
+     */
+    public CompletableFuture<Resume> process(byte[] content, String fileName,
+                                             BiConsumer<String, Map<String, Object>> progress) {
+        long bytes = content.length;
+        // LinkedHashMap keeps the event fields in order and, unlike Map.of, allows a missing file name.
+        Map<String, Object> received = new LinkedHashMap<>();
+        received.put("fileName", fileName);
+        received.put("bytes", bytes);
+        progress.accept("received", received);
+        CompletableFuture<String> extracted;
+        try {
+            extracted = CompletableFuture.supplyAsync(() -> extract(content, progress), extractionExecutor);
+        } catch (RejectedExecutionException e) {
+            release(bytes);
+            throw e;
+        }
+        return extracted
+                .thenApplyAsync(rawText -> parse(rawText, fileName, progress), parsingExecutor)
+                .thenApplyAsync(parsedResume -> save(parsedResume, progress), saveExecutor)
+                .whenComplete((savedResume, error) -> release(bytes));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        extractionExecutor.shutdown();
+        parsingExecutor.shutdown();
+        saveExecutor.shutdown();
+    }
+
+    private String extract(byte[] content, BiConsumer<String, Map<String, Object>> progress) {
+        try {
+            String rawText = resumeService.extractText(new ByteArrayInputStream(content));
+            progress.accept("extracted", Map.of("chars", rawText.length()));
+            return rawText;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private Resume parse(String rawText, String fileName, BiConsumer<String, Map<String, Object>> progress) {
+        Resume parsedResume = nlpService.parseResumeText(rawText);
+        parsedResume.setOriginalFileName(fileName);
+        Map<String, Object> parsed = new LinkedHashMap<>();
+        parsed.put("skills", parsedResume.getSkills().size());
+        parsed.put("experiences", parsedResume.getExperiences().size());
+        parsed.put("projects", parsedResume.getProjects().size());
+        parsed.put("certifications", parsedResume.getCertifications().size());
+        progress.accept("parsed", parsed);
+        return parsedResume;
+    }
+
+    private Resume save(Resume parsedResume, BiConsumer<String, Map<String, Object>> progress) {
+        Resume savedResume = resumeService.save(parsedResume);
+        progress.accept("saved", Map.of("resumeId", savedResume.getId()));
+        return savedResume;
+    }
+
+    private static ExecutorService boundedExecutor(String threadNamePrefix, int threads, int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(threadNamePrefix),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,25 @@
+-- V5__create_ingestion_job.sql
+
+-- Durable work queue for resume ingestion: one row per received file.
+-- status: PENDING -> PROCESSING -> DONE, or back to PENDING with a backoff, or DEAD after the last attempt
+-- stage:  furthest pipeline step reached (RECEIVED, EXTRACTED, PARSED, SAVED)
+CREATE TABLE ingestion_job (
+    id BIGSERIAL PRIMARY KEY,
+    original_file_name VARCHAR(512) NOT NULL,
+    content_type VARCHAR(255),
+    -- File bytes; cleared once the resume has been saved
+    content BYTEA,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    stage VARCHAR(20) NOT NULL DEFAULT 'RECEIVED',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+    locked_by VARCHAR(255),
+    locked_at TIMESTAMP WITHOUT TIME ZONE,
+    last_error TEXT,
+    resume_id BIGINT REFERENCES resume(id),
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now()
+);
+
+-- Workers claim rows by status and due time
+CREATE INDEX idx_ingestion_job_claim ON ingestion_job(status, next_attempt_at);
@@ -0,0 +1,9 @@
+-- V6__ingestion_job_timestamptz.sql
+
+-- Due times and leases are compared against the database clock (now()) by every node, so store
+-- them as absolute instants rather than wall-clock times in some node's time zone.
+ALTER TABLE ingestion_job ALTER COLUMN next_attempt_at TYPE TIMESTAMP WITH TIME ZONE;
+ALTER TABLE ingestion_job ALTER COLUMN locked_at TYPE TIMESTAMP WITH TIME ZONE;
+
+-- Lease expiry scans PROCESSING rows by locked_at
+CREATE INDEX idx_ingestion_job_lease ON ingestion_job(status, locked_at);
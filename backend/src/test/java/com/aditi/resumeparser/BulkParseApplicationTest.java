@@ -0,0 +1,46 @@
+package com.aditi.resumeparser;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.aditi.resumeparser.service.IngestionWorker;
+import com.aditi.resumeparser.service.ResumeAnalyticsService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the bulk CLI's context on top of a config file that enables everything, as a real
+ * application.properties copied from the template does, and checks the CLI's overrides still win.
+ */
+class BulkParseApplicationTest {
+
+    private static final String CONFIG = "--spring.config.additional-location=classpath:bulk-parse-cli-test.properties";
+
+    @Test
+    void cliSwitchesOffAnalyticsDespiteTheConfigFile() {
+        try (ConfigurableApplicationContext context = BulkParseApplication.application().run(CONFIG)) {
+            assertThat(context.getEnvironment().getProperty("analytics.enabled", Boolean.class)).isFalse();
+            assertThat(ReflectionTestUtils.getField(context.getBean(ResumeAnalyticsService.class), "enabled"))
+                    .isEqualTo(false);
+        }
+    }
+
+    @Test
+    void cliSwitchesOffTheIngestionWorkerDespiteTheConfigFile() {
+        try (ConfigurableApplicationContext context = BulkParseApplication.application().run(CONFIG)) {
+            assertThat(context.getEnvironment().getProperty("ingestion.worker.enabled", Boolean.class)).isFalse();
+            assertThat(ReflectionTestUtils.getField(context.getBean(IngestionWorker.class), "enabled"))
+                    .isEqualTo(false);
+        }
+    }
+
+    @Test
+    void cliOverridesBeatTheCommandLineToo() {
+        try (ConfigurableApplicationContext context = BulkParseApplication.application()
+                .run(CONFIG, "--analytics.enabled=true", "--ingestion.worker.enabled=true")) {
+            assertThat(context.getEnvironment().getProperty("analytics.enabled", Boolean.class)).isFalse();
+            assertThat(context.getEnvironment().getProperty("ingestion.worker.enabled", Boolean.class)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.aditi.resumeparser.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.aditi.resumeparser.model.Certification;
+import com.aditi.resumeparser.model.Experience;
+import com.aditi.resumeparser.model.Project;
+import com.aditi.resumeparser.model.Resume;
+import com.aditi.resumeparser.model.ResumeSkill;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the hand-written batch INSERTs against H2 in PostgreSQL mode with the real Flyway migrations,
+ * so a column added to an entity but not to {@link ResumeBatchRepository} shows up here.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ResumeBatchRepository.class)
+@TestPropertySource(properties =
+        "spring.datasource.url=jdbc:h2:mem:resume-batch;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+class ResumeBatchRepositoryTest {
+
+    @Autowired
+    private ResumeBatchRepository resumeBatchRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        resumeRepository.deleteAll();
+    }
+
+    @Test
+    void insertsResumesWithTheirGeneratedIdsInBatchOrder() {
+        List<Resume> batch = List.of(resume("a.pdf", "Asha Rao"), resume("b.docx", null), resume("c.pdf", "Chen Li"));
+
+        resumeBatchRepository.insertAll(batch);
+
+        for (Resume resume : batch) {
+            assertThat(resume.getId()).isNotNull();
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT original_file_name, full_name, created_at FROM resume WHERE id = ?", resume.getId());
+            assertThat(row.get("original_file_name")).isEqualTo(resume.getOriginalFileName());
+            assertThat(row.get("full_name")).isEqualTo(resume.getFullName());
+            assertThat(row.get("created_at")).isNotNull();
+        }
+        assertThat(batch).extracting(Resume::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void insertsChildRowsUnderTheirOwnResume() {
+        Resume first = resume("a.pdf", "Asha Rao");
+        first.addSkill(new ResumeSkill("Java"));
+        first.addSkill(new ResumeSkill("SQL"));
+        Experience experience = new Experience();
+        experience.setJobTitle("Backend Engineer");
+        experience.setCompanyName("Acme");
+        experience.setDateRange("Jan 2020 - Present");
+        first.addExperience(experience);
+
+        Resume second = resume("b.pdf", "Chen Li");
+        second.addSkill(new ResumeSkill("Python"));
+        Certification certification = new Certification();
+        certification.setCertificationName("AWS Certified Developer");
+        certification.setIssuingOrganization("Amazon");
+        second.addCertification(certification);
+        Project project = new Project();
+        project.setProjectName("Resume Parser");
+        project.setDescription("Extracts skills from resumes");
+        second.addProject(project);
+
+        // No children at all, so the child batches skip it.
+        Resume third = resume("c.pdf", null);
+
+        resumeBatchRepository.insertAll(List.of(first, second, third));
+
+        assertThat(skillsOf(first)).containsExactlyInAnyOrder("Java", "SQL");
+        assertThat(skillsOf(second)).containsExactly("Python");
+        assertThat(skillsOf(third)).isEmpty();
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT job_title, company_name, date_range FROM experience WHERE resume_id = ?", first.getId()))
+                .containsEntry("job_title", "Backend Engineer")
+                .containsEntry("company_name", "Acme")
+                .containsEntry("date_range", "Jan 2020 - Present");
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT certification_name, issuing_organization FROM certification WHERE resume_id = ?", second.getId()))
+                .containsEntry("certification_name", "AWS Certified Developer")
+                .containsEntry("issuing_organization", "Amazon");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT project_name FROM project WHERE resume_id = ?", String.class, second.getId()))
+                .isEqualTo("Resume Parser");
+        assertThat(countRows("experience")).isEqualTo(1);
+        assertThat(countRows("certification")).isEqualTo(1);
+        assertThat(countRows("project")).isEqualTo(1);
+    }
+
+    @Test
+    void emptyBatchWritesNothing() {
+        resumeBatchRepository.insertAll(List.of());
+
+        assertThat(resumeRepository.count()).isZero();
+    }
+
+    private List<String> skillsOf(Resume resume) {
+        return jdbcTemplate.queryForList("SELECT skill_name FROM resume_skill WHERE resume_id = ?", String.class, resume.getId());
+    }
+
+    private int countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private static Resume resume(String fileName, String fullName) {
+        Resume resume = new Resume();
+        resume.setOriginalFileName(fileName);
+        resume.setFullName(fullName);
+        return resume;
+    }
+}
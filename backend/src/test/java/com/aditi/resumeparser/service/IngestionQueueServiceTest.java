@@ -0,0 +1,255 @@
+package com.aditi.resumeparser.service;
+
+import org.apache.tika.Tika;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.aditi.resumeparser.model.IngestionJob;
+import com.aditi.resumeparser.model.Resume;
+import com.aditi.resumeparser.repository.IngestionJobRepository;
+import com.aditi.resumeparser.repository.ResumeRepository;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static java.time.temporal.ChronoUnit.SECONDS;
+
+/**
+ * Runs the queue's native SQL against H2 in PostgreSQL mode with the real Flyway migrations.
+ * Every call commits on its own, as in production, because the queue reads the database clock.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({IngestionQueueService.class, ResumeService.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ingestion;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "ingestion.max-attempts=3",
+        "ingestion.backoff-base-ms=10000",
+        "ingestion.backoff-max-ms=25000",
+        "ingestion.lease-timeout-ms=600000"
+})
+class IngestionQueueServiceTest {
+
+    private static final String WORKER = "worker-a";
+
+    @Autowired
+    private IngestionQueueService queueService;
+
+    @Autowired
+    private IngestionJobRepository jobRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private NLPService nlpService;
+
+    @MockBean
+    private Tika tika;
+
+    @AfterEach
+    void cleanUp() {
+        jobRepository.deleteAll();
+        resumeRepository.deleteAll();
+    }
+
+    @Test
+    void backoffDoublesPerAttemptAndIsCapped() {
+        assertThat(queueService.backoff(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(queueService.backoff(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(queueService.backoff(3)).isEqualTo(Duration.ofSeconds(25));
+        assertThat(queueService.backoff(200)).isEqualTo(Duration.ofSeconds(25));
+    }
+
+    @Test
+    void failedAttemptsBackOffUntilTheLastOneGoesDead() {
+        Long jobId = queueService.enqueue("resume.pdf", "application/pdf", new byte[] {1}).getId();
+
+        IngestionJob job = claimOne();
+        assertThat(job.getAttempts()).isEqualTo(1);
+        queueService.fail(job, WORKER, IngestionJob.Stage.EXTRACTED, "TikaException: broken");
+
+        IngestionJob retried = jobRepository.findById(jobId).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(IngestionJob.Status.PENDING);
+        assertThat(retried.getStage()).isEqualTo(IngestionJob.Stage.EXTRACTED);
+        assertThat(retried.getLockedBy()).isNull();
+        assertThat(retried.getNextAttemptAt()).isCloseTo(OffsetDateTime.now().plusSeconds(10), within(3, SECONDS));
+        // Not due yet.
+        assertThat(queueService.claim(WORKER, 10)).isEmpty();
+
+        makeDue(jobId);
+        job = claimOne();
+        queueService.fail(job, WORKER, IngestionJob.Stage.EXTRACTED, "TikaException: broken");
+        assertThat(jobRepository.findById(jobId).orElseThrow().getNextAttemptAt())
+                .isCloseTo(OffsetDateTime.now().plusSeconds(20), within(3, SECONDS));
+
+        makeDue(jobId);
+        job = claimOne();
+        assertThat(job.getAttempts()).isEqualTo(3);
+        queueService.fail(job, WORKER, IngestionJob.Stage.PARSED, "IllegalStateException: still broken");
+
+        IngestionJob dead = jobRepository.findById(jobId).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(IngestionJob.Status.DEAD);
+        assertThat(dead.getLastError()).isEqualTo("IllegalStateException: still broken");
+        makeDue(jobId);
+        assertThat(queueService.claim(WORKER, 10)).isEmpty();
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedWhileAttemptsRemain() {
+        Long jobId = queueService.enqueue("resume.pdf", "application/pdf", new byte[] {1}).getId();
+        claimOne();
+
+        // The worker holding it crashed long ago.
+        expireLease(jobId);
+        IngestionJob reclaimed = queueService.claim("worker-b", 10).get(0);
+
+        assertThat(reclaimed.getId()).isEqualTo(jobId);
+        assertThat(reclaimed.getAttempts()).isEqualTo(2);
+        assertThat(reclaimed.getLockedBy()).isEqualTo("worker-b");
+    }
+
+    @Test
+    void expiredLeaseOnTheLastAttemptGoesDeadInsteadOfBeingReclaimed() {
+        Long jobId = queueService.enqueue("poison.docx", "application/pdf", new byte[] {1}).getId();
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            claimOne();
+            expireLease(jobId);
+        }
+
+        assertThat(queueService.claim(WORKER, 10)).isEmpty();
+        IngestionJob dead = jobRepository.findById(jobId).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(IngestionJob.Status.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(3);
+        assertThat(dead.getLastError()).contains("lease expired");
+    }
+
+    @Test
+    void renewedLeaseIsNotReclaimed() {
+        Long jobId = queueService.enqueue("slow.pdf", "application/pdf", new byte[] {1}).getId();
+        claimOne();
+        expireLease(jobId);
+
+        queueService.renewLeases(WORKER, Set.of(jobId));
+
+        assertThat(queueService.claim("worker-b", 10)).isEmpty();
+    }
+
+    @Test
+    void runningJobRecordsEachStageAsItIsReached() {
+        Long jobId = queueService.enqueue("resume.pdf", "application/pdf", new byte[] {1}).getId();
+        claimOne();
+
+        assertThat(queueService.advance(jobId, WORKER, IngestionJob.Stage.EXTRACTED)).isTrue();
+        IngestionJob running = jobRepository.findById(jobId).orElseThrow();
+        assertThat(running.getStatus()).isEqualTo(IngestionJob.Status.PROCESSING);
+        assertThat(running.getStage()).isEqualTo(IngestionJob.Stage.EXTRACTED);
+
+        assertThat(queueService.advance(jobId, WORKER, IngestionJob.Stage.PARSED)).isTrue();
+        assertThat(jobRepository.findById(jobId).orElseThrow().getStage()).isEqualTo(IngestionJob.Stage.PARSED);
+    }
+
+    @Test
+    void advanceAfterLosingTheLeaseRecordsNothing() {
+        Long jobId = queueService.enqueue("resume.pdf", "application/pdf", new byte[] {1}).getId();
+        claimOne();
+        expireLease(jobId);
+        queueService.claim("worker-b", 10);
+
+        assertThat(queueService.advance(jobId, WORKER, IngestionJob.Stage.EXTRACTED)).isFalse();
+        assertThat(jobRepository.findById(jobId).orElseThrow().getStage()).isEqualTo(IngestionJob.Stage.RECEIVED);
+    }
+
+    @Test
+    void newAttemptStartsItsStageOver() {
+        Long jobId = queueService.enqueue("resume.pdf", "application/pdf", new byte[] {1}).getId();
+        IngestionJob job = claimOne();
+        queueService.advance(jobId, WORKER, IngestionJob.Stage.EXTRACTED);
+        queueService.fail(job, WORKER, IngestionJob.Stage.EXTRACTED, "IllegalStateException: parser crashed");
+        makeDue(jobId);
+
+        assertThat(claimOne().getStage()).isEqualTo(IngestionJob.Stage.RECEIVED);
+    }
+
+    @Test
+    void completeSavesTheResumeAndMarksTheJobDone() {
+        Long jobId = queueService.enqueue("resume.pdf", "application/pdf", new byte[] {1}).getId();
+        claimOne();
+
+        assertThat(queueService.complete(jobId, WORKER, parsedResume())).isTrue();
+
+        IngestionJob done = jobRepository.findById(jobId).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo(IngestionJob.Status.DONE);
+        assertThat(done.getStage()).isEqualTo(IngestionJob.Stage.SAVED);
+        assertThat(done.getContent()).isNull();
+        assertThat(done.getResumeId()).isEqualTo(resumeRepository.findAll().get(0).getId());
+    }
+
+    @Test
+    void completeAfterLosingTheLeaseSavesNothing() {
+        Long jobId = queueService.enqueue("resume.pdf", "application/pdf", new byte[] {1}).getId();
+        claimOne();
+        expireLease(jobId);
+        queueService.claim("worker-b", 10);
+
+        assertThat(queueService.complete(jobId, WORKER, parsedResume())).isFalse();
+
+        assertThat(resumeRepository.count()).isZero();
+        IngestionJob job = jobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(IngestionJob.Status.PROCESSING);
+        assertThat(job.getLockedBy()).isEqualTo("worker-b");
+    }
+
+    @Test
+    void releaseReturnsTheJobWithoutChargingTheAttempt() {
+        Long jobId = queueService.enqueue("resume.pdf", "application/pdf", new byte[] {1}).getId();
+        claimOne();
+
+        queueService.release(WORKER, Set.of(jobId));
+
+        IngestionJob released = jobRepository.findById(jobId).orElseThrow();
+        assertThat(released.getStatus()).isEqualTo(IngestionJob.Status.PENDING);
+        assertThat(released.getAttempts()).isZero();
+        assertThat(released.getLockedBy()).isNull();
+        assertThat(claimOne().getId()).isEqualTo(jobId);
+    }
+
+    private IngestionJob claimOne() {
+        List<IngestionJob> jobs = queueService.claim(WORKER, 10);
+        assertThat(jobs).hasSize(1);
+        assertThat(jobs.get(0).getStatus()).isEqualTo(IngestionJob.Status.PROCESSING);
+        return jobs.get(0);
+    }
+
+    private void makeDue(Long jobId) {
+        jdbcTemplate.update("UPDATE ingestion_job SET next_attempt_at = now() - INTERVAL '1' SECOND WHERE id = ?", jobId);
+    }
+
+    private void expireLease(Long jobId) {
+        jdbcTemplate.update("UPDATE ingestion_job SET locked_at = now() - INTERVAL '1' HOUR WHERE id = ?", jobId);
+    }
+
+    private static Resume parsedResume() {
+        Resume resume = new Resume();
+        resume.setOriginalFileName("resume.pdf");
+        resume.setFullName("Aditi Bhoyar");
+        return resume;
+    }
+}
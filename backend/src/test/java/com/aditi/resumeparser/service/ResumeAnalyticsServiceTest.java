@@ -0,0 +1,77 @@
+package com.aditi.resumeparser.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.aditi.resumeparser.repository.ResumeRepository;
+import com.aditi.resumeparser.repository.ResumeSkillRepository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResumeAnalyticsServiceTest {
+
+    private static final YearMonth JUNE_2024 = YearMonth.of(2024, 6);
+
+    @Test
+    void durationOfAClosedRange() {
+        assertThat(ResumeAnalyticsService.durationMonths("Jan 2020 - Mar 2022", JUNE_2024)).isEqualTo(26);
+        assertThat(ResumeAnalyticsService.durationMonths("Sep 2021 – Sep 2021", JUNE_2024)).isZero();
+    }
+
+    @Test
+    void durationAcceptsFullMonthNamesAndAnyCase() {
+        assertThat(ResumeAnalyticsService.durationMonths("january 2019 to DECEMBER 2019", JUNE_2024)).isEqualTo(11);
+    }
+
+    @Test
+    void ongoingRangesEndAtTheCurrentMonth() {
+        assertThat(ResumeAnalyticsService.durationMonths("Jun 2021 - Present", JUNE_2024)).isEqualTo(36);
+        assertThat(ResumeAnalyticsService.durationMonths("Dec 2023 - current", JUNE_2024)).isEqualTo(6);
+    }
+
+    @Test
+    void unrecognizedOrNegativeRangesAreRejected() {
+        assertThat(ResumeAnalyticsService.durationMonths("Mar 2022 - Jan 2020", JUNE_2024)).isEqualTo(-1);
+        assertThat(ResumeAnalyticsService.durationMonths("Aug 2025 - Present", JUNE_2024)).isEqualTo(-1);
+        assertThat(ResumeAnalyticsService.durationMonths("Jan 2020", JUNE_2024)).isEqualTo(-1);
+        assertThat(ResumeAnalyticsService.durationMonths("2019 - 2021", JUNE_2024)).isEqualTo(-1);
+        assertThat(ResumeAnalyticsService.durationMonths("", JUNE_2024)).isEqualTo(-1);
+    }
+
+    @Test
+    void catchUpPicksUpALowerIdThatCommitsLateExactlyOnce() {
+        ResumeRepository resumeRepository = mock(ResumeRepository.class);
+        ResumeSkillRepository resumeSkillRepository = mock(ResumeSkillRepository.class);
+        ResumeAnalyticsService analytics = new ResumeAnalyticsService(resumeRepository, resumeSkillRepository,
+                mock(PlatformTransactionManager.class), true, 600_000);
+        when(resumeRepository.findCertificationIssuersInRange(anyLong(), anyLong())).thenReturn(List.of());
+        when(resumeRepository.findExperienceDateRangesInRange(anyLong(), anyLong())).thenReturn(List.of());
+        when(resumeRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+
+        // Resumes 1 and 3 have committed; 2 is still in flight.
+        when(resumeRepository.findMaxId()).thenReturn(3L);
+        when(resumeRepository.findIdsInRange(0, 3)).thenReturn(List.of(1L, 3L));
+        when(resumeSkillRepository.findSkillNamesByResumeInRange(0, 3)).thenReturn(List.of(
+                new Object[] {1L, "Java"}, new Object[] {3L, "Python"}));
+        analytics.catchUp();
+        assertThat(analytics.resumesWithSkills()).isEqualTo(2);
+
+        // Resume 2 commits.
+        when(resumeRepository.findExistingIds(List.of(2L))).thenReturn(List.of(2L));
+        when(resumeSkillRepository.findSkillNamesByResumeInRange(1, 2)).thenReturn(List.<Object[]>of(new Object[] {2L, "Java"}));
+        analytics.catchUp();
+        analytics.catchUp();
+
+        assertThat(analytics.resumesWithSkills()).isEqualTo(3);
+        assertThat(analytics.topSkills(5)).containsExactly(
+                new ResumeColumnStore.Count("Java", 2),
+                new ResumeColumnStore.Count("Python", 1));
+    }
+}
@@ -0,0 +1,100 @@
+package com.aditi.resumeparser.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResumeColumnStoreTest {
+
+    private final ResumeColumnStore store = new ResumeColumnStore();
+
+    @Test
+    void emptyStoreAnswersEveryQuery() {
+        assertThat(store.resumeCount()).isZero();
+        assertThat(store.topSkills(10)).isEmpty();
+        assertThat(store.topIssuers(10)).isEmpty();
+        assertThat(store.experienceYearsHistogram(3)).containsExactly(0, 0, 0, 0);
+
+        ResumeColumnStore.CoOccurrence coOccurrence = store.skillCoOccurrence(5);
+        assertThat(coOccurrence.skills()).isEmpty();
+        assertThat(coOccurrence.counts()).isEmpty();
+    }
+
+    @Test
+    void topSkillsCountsResumesAndKeepsFirstSpelling() {
+        store.addSkillRow(List.of("Java", "SQL"));
+        store.addSkillRow(List.of("java ", "Docker"));
+        store.addSkillRow(List.of("JAVA", "sql"));
+        store.addSkillRow(List.of());
+
+        assertThat(store.resumeCount()).isEqualTo(4);
+        assertThat(store.topSkills(10)).containsExactly(
+                new ResumeColumnStore.Count("Java", 3),
+                new ResumeColumnStore.Count("SQL", 2),
+                new ResumeColumnStore.Count("Docker", 1));
+    }
+
+    @Test
+    void topSkillsBreaksTiesByNameAndHonoursLimit() {
+        store.addSkillRow(List.of("React", "AWS", "Go"));
+        store.addSkillRow(List.of("React", "AWS"));
+
+        assertThat(store.topSkills(2)).containsExactly(
+                new ResumeColumnStore.Count("AWS", 2),
+                new ResumeColumnStore.Count("React", 2));
+    }
+
+    @Test
+    void topIssuersCountsEveryCertification() {
+        store.addIssuer("Coursera");
+        store.addIssuer("Udemy");
+        store.addIssuer("coursera");
+
+        assertThat(store.topIssuers(1)).containsExactly(new ResumeColumnStore.Count("Coursera", 2));
+    }
+
+    @Test
+    void experienceHistogramBucketsByWholeYearsAndCapsTheLastBucket() {
+        for (int months : new int[] {0, 11, 12, 23, 24, 40, 500}) {
+            store.addExperienceMonths(months);
+        }
+
+        // Buckets: <1 year, 1 year, 2 years or more.
+        assertThat(store.experienceYearsHistogram(2)).containsExactly(2, 2, 3);
+    }
+
+    @Test
+    void coOccurrenceHasResumeCountsOnTheDiagonalAndIsSymmetric() {
+        store.addSkillRow(List.of("Java", "SQL", "Docker"));
+        store.addSkillRow(List.of("Java", "SQL"));
+        store.addSkillRow(List.of("Java", "Kotlin"));
+
+        ResumeColumnStore.CoOccurrence coOccurrence = store.skillCoOccurrence(2);
+
+        // Only the top two skills are in the matrix; Docker and Kotlin are ignored.
+        assertThat(coOccurrence.skills()).containsExactly("Java", "SQL");
+        assertThat(coOccurrence.counts()).isDeepEqualTo(new int[][] {
+                {3, 2},
+                {2, 2}});
+    }
+
+    @Test
+    void parallelChunksAddUpToExactTotals() {
+        // Several times the chunk size, so the per-chunk histograms have to be merged.
+        int rows = 150_000;
+        for (int i = 0; i < rows; i++) {
+            store.addSkillRow(i % 3 == 0 ? List.of("Java", "Python") : List.of("Java"));
+            store.addExperienceMonths(i % 24);
+        }
+
+        assertThat(store.topSkills(5)).containsExactly(
+                new ResumeColumnStore.Count("Java", rows),
+                new ResumeColumnStore.Count("Python", rows / 3));
+        assertThat(store.experienceYearsHistogram(5)).containsExactly(rows / 2, rows / 2, 0, 0, 0, 0);
+        assertThat(store.skillCoOccurrence(2).counts()).isDeepEqualTo(new int[][] {
+                {rows, rows / 3},
+                {rows / 3, rows / 3}});
+    }
+}
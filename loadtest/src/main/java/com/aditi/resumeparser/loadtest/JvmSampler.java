@@ -0,0 +1,120 @@
+package com.aditi.resumeparser.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the backend's Actuator metrics ({@code /actuator/metrics}, exposed by the backend's
+ * {@code loadtest} profile) once a second from {@link #start()} until {@link #close()} and keeps
+ * the peak heap usage plus the GC counters at the start and end, so heap/GC stats describe the
+ * server under test rather than the load generator. Started at the end of the warmup, so they cover
+ * the same window as the request metrics.
+ */
+public class JvmSampler implements AutoCloseable {
+
+    private record Sample(long heapUsedBytes, long heapMaxBytes, long gcCount, long gcTimeMillis) {
+    }
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final URI metricsUri;
+
+    private Sample first;
+    private Sample last;
+    private long peakHeapUsedBytes = -1;
+    private volatile boolean started;
+
+    /**
+     * @param metricsUri the backend's metrics endpoint, e.g. {@code http://localhost:8080/actuator/metrics/}.
+     */
+    public JvmSampler(URI metricsUri) {
+        this.metricsUri = metricsUri;
+    }
+
+    public void start() {
+        started = true;
+        scheduler.scheduleAtFixedRate(this::sample, 0, 1, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        // A run that never got past the warmup has no measured window to describe.
+        if (started) {
+            sample();
+        }
+    }
+
+    public synchronized boolean hasSamples() {
+        return first != null && last != null;
+    }
+
+    public synchronized long peakHeapUsedBytes() {
+        return peakHeapUsedBytes;
+    }
+
+    public synchronized long heapMaxBytes() {
+        return last.heapMaxBytes();
+    }
+
+    public synchronized long gcCount() {
+        return last.gcCount() - first.gcCount();
+    }
+
+    public synchronized long gcTimeMillis() {
+        return last.gcTimeMillis() - first.gcTimeMillis();
+    }
+
+    private void sample() {
+        try {
+            JsonNode heapUsed = fetch("jvm.memory.used?tag=area:heap");
+            JsonNode heapMax = fetch("jvm.memory.max?tag=area:heap");
+            if (heapUsed == null || heapMax == null) {
+                return;
+            }
+            // The GC pause timer only exists after the first collection.
+            JsonNode gcPause = fetch("jvm.gc.pause");
+            Sample sample = new Sample(
+                    (long) statistic(heapUsed, "VALUE"),
+                    (long) statistic(heapMax, "VALUE"),
+                    gcPause != null ? (long) statistic(gcPause, "COUNT") : 0,
+                    gcPause != null ? (long) (statistic(gcPause, "TOTAL_TIME") * 1000) : 0);
+            synchronized (this) {
+                if (first == null) {
+                    first = sample;
+                }
+                last = sample;
+                peakHeapUsedBytes = Math.max(peakHeapUsedBytes, sample.heapUsedBytes());
+            }
+        } catch (Exception e) {
+            // A missed sample only makes the heap peak less precise.
+        }
+    }
+
+    // Returns null for a metric the backend does not have (yet).
+    private JsonNode fetch(String metric) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(metricsUri.resolve(metric)).timeout(Duration.ofSeconds(2)).GET().build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        return response.statusCode() == 200 ? objectMapper.readTree(response.body()) : null;
+    }
+
+    private static double statistic(JsonNode metric, String name) {
+        for (JsonNode measurement : metric.path("measurements")) {
+            if (name.equals(measurement.path("statistic").asText())) {
+                return measurement.path("value").asDouble();
+            }
+        }
+        return 0;
+    }
+}
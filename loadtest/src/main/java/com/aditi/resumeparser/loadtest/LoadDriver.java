@@ -0,0 +1,125 @@
+package com.aditi.resumeparser.loadtest;
+
+import com.aditi.resumeparser.loadtest.ResumeCorpusGenerator.CorpusDocument;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open-model load generator: sends uploads at a fixed arrival rate regardless of how fast the
+ * server answers, so a slow server shows up as growing latency instead of a lower request rate.
+ * Latency is measured from each request's scheduled start, which keeps queueing delay on the
+ * client side (coordinated omission) in the numbers.
+ */
+public class LoadDriver {
+
+    /**
+     * One completed request. {@code status} is -1 when the request failed without an HTTP response.
+     */
+    public record Sample(String kind, int status, long latencyNanos) {
+
+        public boolean isError() {
+            return status < 200 || status >= 300;
+        }
+    }
+
+    private static final String BOUNDARY = "----resume-parser-loadtest-boundary";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final URI uploadUri;
+    private final Duration requestTimeout;
+
+    public LoadDriver(URI uploadUri, Duration requestTimeout) {
+        this.uploadUri = uploadUri;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Cycles through {@code corpus} at {@code ratePerSecond} for {@code warmup + duration}.
+     * Samples whose scheduled start falls in the warmup are discarded. {@code onMeasurementStart}
+     * runs just before the first measured request is sent.
+     */
+    public List<Sample> run(List<CorpusDocument> corpus, double ratePerSecond, Duration warmup, Duration duration,
+                            Runnable onMeasurementStart) throws InterruptedException {
+        // Multipart bodies are built up front so the client's own work doesn't skew the arrival rate.
+        List<byte[]> bodies = new ArrayList<>(corpus.size());
+        for (CorpusDocument document : corpus) {
+            bodies.add(multipartBody(document));
+        }
+
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long totalRequests = (warmup.toNanos() + duration.toNanos()) / periodNanos;
+        long warmupRequests = warmup.toNanos() / periodNanos;
+
+        Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger sent = new AtomicInteger();
+        long start = System.nanoTime();
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleAtFixedRate(() -> {
+            int index = sent.getAndIncrement();
+            if (index >= totalRequests) {
+                return;
+            }
+            if (index == warmupRequests) {
+                onMeasurementStart.run();
+            }
+            long intendedStart = start + index * periodNanos;
+            CorpusDocument document = corpus.get(index % corpus.size());
+            HttpRequest request = HttpRequest.newBuilder(uploadUri)
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(bodies.get(index % bodies.size())))
+                    .build();
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (index >= warmupRequests) {
+                            int status = error != null ? -1 : response.statusCode();
+                            samples.add(new Sample(document.kind(), status, System.nanoTime() - intendedStart));
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }, 0, periodNanos, TimeUnit.NANOSECONDS);
+
+        while (sent.get() < totalRequests) {
+            Thread.sleep(100);
+        }
+        scheduler.shutdownNow();
+
+        // Let outstanding requests finish; they time out on their own after requestTimeout.
+        long drainDeadline = System.nanoTime() + requestTimeout.toNanos() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(100);
+        }
+        return new ArrayList<>(samples);
+    }
+
+    private static byte[] multipartBody(CorpusDocument document) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(document.content().length + 512);
+        String partHeader = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + document.fileName() + "\"\r\n"
+                + "Content-Type: " + document.contentType() + "\r\n\r\n";
+        body.writeBytes(partHeader.getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(document.content());
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+}
@@ -0,0 +1,118 @@
+package com.aditi.resumeparser.loadtest;
+
+import com.aditi.resumeparser.loadtest.LoadDriver.Sample;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Turns the samples into a flat, sorted {@code key=value} report. One metric per line and no
+ * timestamps, so two reports from different builds can be compared with plain {@code diff}
+ * or with {@link #compareTo(Path)}.
+ */
+public class LoadReport {
+
+    private final Map<String, String> metrics = new TreeMap<>();
+
+    public LoadReport(Map<String, String> config, List<Sample> samples, double measuredSeconds, JvmSampler jvm) {
+        config.forEach((key, value) -> metrics.put("config." + key, value));
+
+        addGroup("overall", samples, measuredSeconds);
+        samples.stream()
+                .collect(Collectors.groupingBy(Sample::kind, TreeMap::new, Collectors.toList()))
+                .forEach((kind, kindSamples) -> addGroup("kind." + kind, kindSamples, measuredSeconds));
+        samples.stream()
+                .collect(Collectors.groupingBy(Sample::status, TreeMap::new, Collectors.counting()))
+                .forEach((status, count) -> metrics.put("status." + (status < 0 ? "no_response" : status), String.valueOf(count)));
+
+        if (jvm.hasSamples()) {
+            metrics.put("jvm.heap_used_peak_mb", String.valueOf(jvm.peakHeapUsedBytes() / (1024 * 1024)));
+            metrics.put("jvm.heap_max_mb", String.valueOf(jvm.heapMaxBytes() / (1024 * 1024)));
+            metrics.put("jvm.gc_count", String.valueOf(jvm.gcCount()));
+            metrics.put("jvm.gc_time_ms", String.valueOf(jvm.gcTimeMillis()));
+        }
+    }
+
+    private void addGroup(String prefix, List<Sample> samples, double measuredSeconds) {
+        long errors = samples.stream().filter(Sample::isError).count();
+        long[] latencies = samples.stream().filter(sample -> !sample.isError()).mapToLong(Sample::latencyNanos).sorted().toArray();
+
+        metrics.put(prefix + ".requests", String.valueOf(samples.size()));
+        metrics.put(prefix + ".errors", String.valueOf(errors));
+        metrics.put(prefix + ".error_rate", format(samples.isEmpty() ? 0 : (double) errors / samples.size(), 4));
+        metrics.put(prefix + ".throughput_per_sec", format(latencies.length / measuredSeconds, 2));
+        metrics.put(prefix + ".latency_ms.p50", millis(percentile(latencies, 50)));
+        metrics.put(prefix + ".latency_ms.p95", millis(percentile(latencies, 95)));
+        metrics.put(prefix + ".latency_ms.p99", millis(percentile(latencies, 99)));
+        metrics.put(prefix + ".latency_ms.max", millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+    }
+
+    public void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lists every numeric metric that also appears in {@code baseline} with its old value, new value
+     * and relative change.
+     */
+    public String compareTo(Path baseline) throws IOException {
+        Map<String, String> previous = new TreeMap<>();
+        for (String line : Files.readAllLines(baseline, StandardCharsets.UTF_8)) {
+            int separator = line.indexOf('=');
+            if (separator > 0 && !line.startsWith("#")) {
+                previous.put(line.substring(0, separator), line.substring(separator + 1));
+            }
+        }
+
+        StringBuilder comparison = new StringBuilder("# compared with " + baseline + "\n");
+        metrics.forEach((key, value) -> {
+            String old = previous.get(key);
+            if (old == null || key.startsWith("config.")) {
+                return;
+            }
+            try {
+                double before = Double.parseDouble(old);
+                double after = Double.parseDouble(value);
+                String change = before == 0 ? "n/a" : String.format(Locale.ROOT, "%+.1f%%", (after - before) * 100 / before);
+                comparison.append(String.format(Locale.ROOT, "%-50s %12s -> %12s  %s%n", key, old, value, change));
+            } catch (NumberFormatException e) {
+                // Not a numeric metric.
+            }
+        });
+        return comparison.toString();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("# resume-parser load test report\n");
+        metrics.forEach((key, value) -> report.append(key).append('=').append(value).append('\n'));
+        return report.toString();
+    }
+
+    // Nearest-rank percentile over sorted values.
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static String millis(long nanos) {
+        return format(nanos / 1_000_000.0, 1);
+    }
+
+    private static String format(double value, int decimals) {
+        return String.format(Locale.ROOT, "%." + decimals + "f", value);
+    }
+}
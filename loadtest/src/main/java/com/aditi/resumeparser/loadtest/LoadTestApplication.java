@@ -0,0 +1,91 @@
+package com.aditi.resumeparser.loadtest;
+
+import com.aditi.resumeparser.loadtest.LoadDriver.Sample;
+import com.aditi.resumeparser.loadtest.ResumeCorpusGenerator.CorpusDocument;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the resume corpus, drives a running backend at a fixed arrival rate and writes the report.
+ *
+ * <pre>
+ * mvn -q compile exec:java -Dexec.args="--rate=20 --duration=60 --report=target/report.txt"
+ * </pre>
+ *
+ * Options (all optional): {@code --target} (default http://localhost:8080), {@code --endpoint}
+ * (default /api/resume/upload), {@code --rate} requests/sec, {@code --duration} and {@code --warmup}
+ * in seconds, {@code --corpus-size}, {@code --seed}, {@code --timeout} per request in seconds,
+ * {@code --report} output file, {@code --baseline} earlier report to compare against and
+ * {@code --write-corpus} directory to dump the generated files into.
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String target = options.getOrDefault("target", "http://localhost:8080");
+        String endpoint = options.getOrDefault("endpoint", "/api/resume/upload");
+        double rate = Double.parseDouble(options.getOrDefault("rate", "10"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int corpusSize = Integer.parseInt(options.getOrDefault("corpus-size", "200"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int timeoutSeconds = Integer.parseInt(options.getOrDefault("timeout", "30"));
+        Path reportFile = Path.of(options.getOrDefault("report", "target/loadtest-report.txt"));
+
+        System.out.printf("Generating %d resumes (seed %d)...%n", corpusSize, seed);
+        List<CorpusDocument> corpus = new ResumeCorpusGenerator(seed).generate(corpusSize);
+        if (options.containsKey("write-corpus")) {
+            Path corpusDir = Files.createDirectories(Path.of(options.get("write-corpus")));
+            for (CorpusDocument document : corpus) {
+                Files.write(corpusDir.resolve(document.fileName()), document.content());
+            }
+        }
+
+        System.out.printf("Sending %.1f req/s to %s%s for %ds (+%ds warmup)...%n", rate, target, endpoint, durationSeconds, warmupSeconds);
+        LoadDriver driver = new LoadDriver(URI.create(target + endpoint), Duration.ofSeconds(timeoutSeconds));
+        JvmSampler jvm = new JvmSampler(URI.create(target + "/actuator/metrics/"));
+        List<Sample> samples;
+        try {
+            // JVM sampling starts with the measured window, so heap/GC stats exclude the warmup like the latencies do.
+            samples = driver.run(corpus, rate, Duration.ofSeconds(warmupSeconds), Duration.ofSeconds(durationSeconds), jvm::start);
+        } finally {
+            jvm.close();
+        }
+
+        // Only settings that affect the numbers go in the report, so it stays diffable across machines.
+        Map<String, String> config = new LinkedHashMap<>();
+        config.put("endpoint", endpoint);
+        config.put("rate_per_sec", String.valueOf(rate));
+        config.put("duration_sec", String.valueOf(durationSeconds));
+        config.put("warmup_sec", String.valueOf(warmupSeconds));
+        config.put("corpus_size", String.valueOf(corpusSize));
+        config.put("seed", String.valueOf(seed));
+
+        LoadReport report = new LoadReport(config, samples, durationSeconds, jvm);
+        report.write(reportFile);
+        System.out.print(report);
+        System.out.println("Report written to " + reportFile);
+        if (options.containsKey("baseline")) {
+            System.out.print(report.compareTo(Path.of(options.get("baseline"))));
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,270 @@
+package com.aditi.resumeparser.loadtest;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a deterministic (seeded) corpus of PDF and DOCX resumes in the section layout
+ * {@code NLPService} looks for, with a realistic mix of sizes and a few pathological cases:
+ * huge tables, table-based layouts and text full of non-ASCII characters that the parser strips.
+ */
+public class ResumeCorpusGenerator {
+
+    static final String PDF = "application/pdf";
+    static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    /**
+     * One generated file. {@code kind} groups the report so regressions can be traced to a document shape.
+     */
+    public record CorpusDocument(String fileName, String kind, String contentType, byte[] content) {
+    }
+
+    // Kinds and their relative weights in the corpus: mostly ordinary resumes, a few pathological ones.
+    private static final Map<String, Integer> KIND_WEIGHTS = new LinkedHashMap<>();
+    static {
+        KIND_WEIGHTS.put("pdf-small", 30);
+        KIND_WEIGHTS.put("pdf-large", 10);
+        KIND_WEIGHTS.put("pdf-two-column", 8);
+        KIND_WEIGHTS.put("pdf-non-ascii", 5);
+        KIND_WEIGHTS.put("docx-small", 25);
+        KIND_WEIGHTS.put("docx-large", 8);
+        KIND_WEIGHTS.put("docx-table-layout", 6);
+        KIND_WEIGHTS.put("docx-non-ascii", 5);
+        KIND_WEIGHTS.put("docx-huge-table", 3);
+    }
+
+    private static final String[] FIRST_NAMES = {"Aditi", "Rahul", "Priya", "James", "Maria", "Chen", "Fatima", "Lukas"};
+    private static final String[] LAST_NAMES = {"Bhoyar", "Sharma", "Patel", "Smith", "Garcia", "Wang", "Khan", "Schmidt"};
+    private static final String[] NON_ASCII_NAMES = {"José Müller", "Zoë Brontë", "Łukasz Żółć", "Иван Петров", "王伟", "Søren Ærø"};
+    private static final String[] SKILLS = {"Java", "Python", "JavaScript", "SQL", "React", "Spring Boot", "Docker",
+            "Kubernetes", "AWS", "PostgreSQL", "MongoDB", "Git", "Linux", "TensorFlow", "Pandas", "Node.js"};
+    private static final String[] COMPANIES = {"Infosys", "TCS", "Acme Corp", "Globex", "Initech", "Umbrella Labs"};
+    private static final String[] TITLES = {"Software Engineer", "Backend Developer", "Data Analyst", "Intern", "Tech Lead"};
+    private static final String[] ISSUERS = {"Coursera", "Udemy", "NPTEL", "Oracle", "Google", "AWS"};
+    private static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+
+    private final Random random;
+
+    public ResumeCorpusGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public List<CorpusDocument> generate(int size) throws IOException {
+        List<CorpusDocument> corpus = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String kind = pickKind();
+            corpus.add(generate(i, kind));
+        }
+        return corpus;
+    }
+
+    private CorpusDocument generate(int index, String kind) throws IOException {
+        boolean large = kind.endsWith("-large");
+        boolean nonAscii = kind.endsWith("-non-ascii");
+        String name = nonAscii ? pick(NON_ASCII_NAMES) : pick(FIRST_NAMES) + " " + pick(LAST_NAMES);
+        List<String> header = List.of(name, email(name, index) + " | +91 98" + String.format("%08d", index));
+        Map<String, List<String>> sections = sections(large ? 40 : 3, nonAscii);
+
+        String fileName = String.format("resume-%05d-%s.%s", index, kind, kind.startsWith("pdf") ? "pdf" : "docx");
+        byte[] content = switch (kind) {
+            case "pdf-small", "pdf-large", "pdf-non-ascii" -> pdf(flatten(header, sections), false);
+            case "pdf-two-column" -> pdf(flatten(header, sections), true);
+            case "docx-table-layout" -> docxTableLayout(header, sections);
+            case "docx-huge-table" -> docxHugeTable(header, sections, 2000);
+            default -> docx(flatten(header, sections));
+        };
+        return new CorpusDocument(fileName, kind, kind.startsWith("pdf") ? PDF : DOCX, content);
+    }
+
+    // -------------------- CONTENT --------------------
+    private Map<String, List<String>> sections(int blocks, boolean nonAscii) {
+        // En dashes and smart quotes are what real resumes contain; the parser strips them to ASCII.
+        String dash = nonAscii ? " – " : " - ";
+        Map<String, List<String>> sections = new LinkedHashMap<>();
+        sections.put("Summary", List.of(nonAscii
+                ? "“Passionate” engineer — café-grade coffee, naïve résumé parsing, 日本語 and Ελληνικά text 🚀"
+                : "Backend engineer focused on reliable services and data pipelines."));
+
+        List<String> experience = new ArrayList<>();
+        for (int i = 0; i < blocks; i++) {
+            experience.add(pick(COMPANIES));
+            experience.add(pick(TITLES));
+            experience.add(dateRange(dash));
+            experience.add("Built and operated services using " + pick(SKILLS) + " and " + pick(SKILLS) + ".");
+            experience.add("");
+        }
+        sections.put("Experience", experience);
+
+        List<String> projects = new ArrayList<>();
+        for (int i = 0; i < blocks; i++) {
+            projects.add("Project " + (char) ('A' + i % 26) + i + " " + dateRange(dash));
+            projects.add("Implemented a " + pick(SKILLS) + " based tool with " + pick(SKILLS) + ".");
+            projects.add("");
+        }
+        sections.put("Projects", projects);
+
+        List<String> skills = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            skills.add(pick(SKILLS));
+        }
+        sections.put("Skills", List.of(String.join(", ", skills)));
+
+        List<String> certifications = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, blocks / 4); i++) {
+            certifications.add(pick(SKILLS) + " Fundamentals");
+            certifications.add(pick(ISSUERS));
+            certifications.add("");
+        }
+        sections.put("Certifications", certifications);
+        sections.put("Education", List.of("B.Tech in Computer Science, State University"));
+        return sections;
+    }
+
+    private static List<String> flatten(List<String> header, Map<String, List<String>> sections) {
+        List<String> lines = new ArrayList<>(header);
+        sections.forEach((heading, body) -> {
+            lines.add("");
+            lines.add(heading);
+            lines.addAll(body);
+        });
+        return lines;
+    }
+
+    // -------------------- PDF --------------------
+    private static byte[] pdf(List<String> lines, boolean twoColumns) throws IOException {
+        float fontSize = 10;
+        float leading = 14;
+        float margin = 50;
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PDRectangle pageSize = PDRectangle.A4;
+            int linesPerColumn = (int) ((pageSize.getHeight() - 2 * margin) / leading);
+            int columns = twoColumns ? 2 : 1;
+            float columnWidth = (pageSize.getWidth() - 2 * margin) / columns;
+
+            int line = 0;
+            while (line < lines.size()) {
+                PDPage page = new PDPage(pageSize);
+                document.addPage(page);
+                try (PDPageContentStream stream = new PDPageContentStream(document, page)) {
+                    stream.setFont(PDType1Font.HELVETICA, fontSize);
+                    for (int column = 0; column < columns && line < lines.size(); column++) {
+                        stream.beginText();
+                        stream.setLeading(leading);
+                        stream.newLineAtOffset(margin + column * columnWidth, pageSize.getHeight() - margin);
+                        for (int i = 0; i < linesPerColumn && line < lines.size(); i++, line++) {
+                            stream.showText(encodable(lines.get(line)));
+                            stream.newLine();
+                        }
+                        stream.endText();
+                    }
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    // The standard Type 1 fonts only cover WinAnsi; anything else (CJK, emoji) becomes '?'.
+    private static String encodable(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        text.codePoints().forEach(codePoint -> {
+            String character = new String(Character.toChars(codePoint));
+            try {
+                PDType1Font.HELVETICA.encode(character);
+                result.append(character);
+            } catch (IllegalArgumentException | IOException e) {
+                result.append('?');
+            }
+        });
+        return result.toString();
+    }
+
+    // -------------------- DOCX --------------------
+    private static byte[] docx(List<String> lines) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String line : lines) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    // Section headings in the left column, their content in the right one.
+    private static byte[] docxTableLayout(List<String> header, Map<String, List<String>> sections) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String line : header) {
+                document.createParagraph().createRun().setText(line);
+            }
+            XWPFTable table = document.createTable(sections.size(), 2);
+            int row = 0;
+            for (Map.Entry<String, List<String>> section : sections.entrySet()) {
+                table.getRow(row).getCell(0).setText(section.getKey());
+                table.getRow(row).getCell(1).setText(String.join("\n", section.getValue()));
+                row++;
+            }
+            document.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    // A normal resume followed by a very large skills matrix table.
+    private byte[] docxHugeTable(List<String> header, Map<String, List<String>> sections, int rows) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String line : flatten(header, sections)) {
+                document.createParagraph().createRun().setText(line);
+            }
+            int columns = 6;
+            XWPFTable table = document.createTable(rows, columns);
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    table.getRow(row).getCell(column).setText(column == 0 ? pick(SKILLS) : String.valueOf(random.nextInt(10)));
+                }
+            }
+            document.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    // -------------------- HELPERS --------------------
+    private String pickKind() {
+        int total = KIND_WEIGHTS.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = random.nextInt(total);
+        for (Map.Entry<String, Integer> entry : KIND_WEIGHTS.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    private String dateRange(String dash) {
+        int startYear = 2010 + random.nextInt(12);
+        String start = pick(MONTHS) + " " + startYear;
+        String end = random.nextInt(4) == 0 ? "Present" : pick(MONTHS) + " " + (startYear + 1 + random.nextInt(3));
+        return start + dash + end;
+    }
+
+    private static String email(String name, int index) {
+        String local = name.toLowerCase().replaceAll("[^a-z]", "");
+        return (local.isEmpty() ? "candidate" : local) + index + "@example.com";
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}